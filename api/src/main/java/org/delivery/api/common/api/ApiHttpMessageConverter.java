@@ -0,0 +1,122 @@
+package org.delivery.api.common.api;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.error.ErrorCodeInterface;
+import org.delivery.api.common.error.TokenErrorCode;
+import org.delivery.api.common.error.UserErrorCode;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Api 응답 전용 HttpMessageConverter (쓰기 전용, 읽기는 기존 Jackson converter 가 처리)
+ *
+ * result 는 값이 정해진 몇 가지 (Result.OK, 각 에러 코드의 Result.ERROR) 뿐이므로
+ * 시작할 때 같은 ObjectMapper 로 한 번 직렬화해 둔 UTF-8 바이트를 그대로 쓰고, body 만 Jackson 으로 직렬화한다.
+ * 미리 만들어 둔 값이 아니면 (설명을 따로 넣은 에러 등) 기존처럼 Jackson 으로 직렬화하므로 응답 형식은 동일하다.
+ */
+public class ApiHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final SerializableString RESULT_FIELD = new SerializedString("result");
+    private static final SerializableString BODY_FIELD = new SerializedString("body");
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+
+    // Result 는 @Data 라 값으로 비교된다.
+    private final Map<Result, SerializableString> encodedResults = new HashMap<>();
+
+    public ApiHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        encode(Result.OK());
+        Stream.of(ErrorCode.values(), UserErrorCode.values(), TokenErrorCode.values())
+                .flatMap(Stream::of)
+                .forEach(this::encode);
+    }
+
+    private void encode(ErrorCodeInterface errorCode) {
+        encode(Result.ERROR(errorCode));
+        // ApiExceptionHandler 는 에러 코드 설명을 description 으로 그대로 내려준다.
+        encode(Result.ERROR(errorCode, errorCode.getDescription()));
+    }
+
+    private void encode(Result result) {
+        try {
+            var encoded = new SerializedString(objectMapper.writeValueAsString(result));
+            encoded.asUnquotedUTF8(); // UTF-8 바이트를 미리 만들어 둔다
+            encodedResults.put(result, encoded);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Result 직렬화 실패 : " + result, e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Api.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        var api = (Api<?>) object;
+        var outputStream = StreamUtils.nonClosing(outputMessage.getBody());
+
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+
+            generator.writeFieldName(RESULT_FIELD);
+            var encodedResult = api.getResult() == null ? null : encodedResults.get(api.getResult());
+            if (encodedResult != null) {
+                generator.writeRawValue(encodedResult);
+            } else {
+                objectWriter.writeValue(generator, api.getResult());
+            }
+
+            generator.writeFieldName(BODY_FIELD);
+            objectWriter.writeValue(generator, api.getBody());
+
+            generator.writeEndObject();
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write Api: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("ApiHttpMessageConverter is write-only", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("ApiHttpMessageConverter is write-only", inputMessage);
+    }
+}
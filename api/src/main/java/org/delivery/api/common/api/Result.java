@@ -16,12 +16,9 @@ public class Result {
     private String resultMessage;
     private String resultDescription;
 
+    // 응답마다 호출되므로 builder 를 거치지 않고 바로 생성
     public static Result OK(){
-        return Result.builder()
-                .resultCode(ErrorCode.OK.getErrorCode())
-                .resultMessage(ErrorCode.OK.getDescription())
-                .resultDescription("성공")
-                .build();
+        return new Result(ErrorCode.OK.getErrorCode(), ErrorCode.OK.getDescription(), "성공");
     }
 
     // 어떤 ErrorCode 가 내려올지 모르므로 파라미터로 인터페이스를 받아서
@@ -0,0 +1,98 @@
+package org.delivery.api.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 에 대한 동시 조회를 하나로 합치는 single-flight
+ *
+ * 먼저 도착한 스레드(leader)만 호출한 스레드에서 loader 를 실행하고, 그 사이 같은 key 로 들어온 스레드는 결과를 기다렸다가 함께 받는다.
+ * loader 가 던진 예외는 기다리던 모든 스레드에 그대로 전달된다.
+ * 결과를 보관하지 않으므로 (완료되면 바로 제거) 캐시 miss 경로 안쪽에서 사용한다.
+ * 기다리는 시간이 timeout 을 넘으면 SERVER_BUSY (503)
+ *
+ * 호출 수는 singleflight.calls (name, result=leader|shared|timeout) 메트릭으로 노출된다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    private final Counter leaders;
+    private final Counter shared;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.leaders = counter(meterRegistry, name, "leader");
+        this.shared = counter(meterRegistry, name, "shared");
+        this.timedOut = counter(meterRegistry, name, "timeout");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        var future = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            var value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 완료 후에 들어온 호출은 새로 조회한다. (지난 결과를 재사용하지 않음)
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 현재 실행 중인 key 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ApiException(ErrorCode.SERVER_ERROR, cause);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY, "single-flight wait timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVER_BUSY, e);
+        }
+    }
+}
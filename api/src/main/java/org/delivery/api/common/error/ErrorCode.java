@@ -9,11 +9,22 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode implements ErrorCodeInterface {
     OK(200, 200, "성공"),
     BAD_REQUEST(HttpStatus.BAD_REQUEST.value(), 400, "잘못된 요청"),
+    FORBIDDEN(HttpStatus.FORBIDDEN.value(), 403, "권한 없음"),
     SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), 500, "서버 에러"),
-    NULL_POINT(HttpStatus.INTERNAL_SERVER_ERROR.value(), 512, "NUll Point")
+    NULL_POINT(HttpStatus.INTERNAL_SERVER_ERROR.value(), 512, "NUll Point"),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE.value(), 503, "서버 사용량 초과"),
+    CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE.value(), 513, "DB 장애로 일시적으로 요청을 처리할 수 없음"),
+    IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT.value(), 409, "같은 Idempotency-Key 요청 처리 중"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY.value(), 422, "다른 요청에 사용된 Idempotency-Key")
     ;
 
     private final Integer httpStatusCode;
     private final Integer errorCode;
     private final String description;
+
+    // SERVER_BUSY, CIRCUIT_OPEN 은 부하 / 장애 상황에서 의도적으로 거절하는 것이므로 stack trace 없이 모아서 기록
+    @Override
+    public boolean isExpected() {
+        return this == SERVER_BUSY || this == CIRCUIT_OPEN || ErrorCodeInterface.super.isExpected();
+    }
 }
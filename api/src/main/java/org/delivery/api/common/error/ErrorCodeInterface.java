@@ -6,4 +6,13 @@ public interface ErrorCodeInterface {
     Integer getErrorCode();
 
     String getDescription();
+
+    /**
+     * 클라이언트 요청 때문에 생기는 예상된 에러인지 (잘못된 요청, 사용자 없음, 토큰 만료 등)
+     * 예상된 에러는 ApiException 생성 시 stack trace 를 만들지 않고, 로그도 코드별로 모아서 남긴다.
+     * 기본값은 http status 가 5xx 가 아닌 경우
+     */
+    default boolean isExpected() {
+        return getHttpStatusCode() < 500;
+    }
 }
@@ -10,7 +10,9 @@ import lombok.Getter;
 @AllArgsConstructor
 @Getter
 public enum UserErrorCode implements ErrorCodeInterface{
-    USER_NOT_FOUND(400, 1404, "사용자를 찾을 수 없음")
+    USER_NOT_FOUND(400, 1404, "사용자를 찾을 수 없음"),
+    USER_ALREADY_EXISTS(409, 1409, "이미 가입된 이메일"),
+    LOGIN_ATTEMPT_EXCEEDED(429, 1429, "로그인 시도 횟수 초과")
             ;
 
     private final Integer httpStatusCode;
@@ -3,6 +3,10 @@ package org.delivery.api.common.exception;
 import lombok.Getter;
 import org.delivery.api.common.error.ErrorCodeInterface;
 
+/**
+ * 예상된 에러 코드 (ErrorCodeInterface.isExpected) 는 stack trace 를 만들지 않는다.
+ * 로그인 실패처럼 자주 발생하는 예외에서 fillInStackTrace 비용이 요청마다 들지 않도록 하기 위함
+ */
 @Getter
 public class ApiException extends RuntimeException implements ApiExceptionInterface{
 
@@ -11,25 +15,25 @@ public class ApiException extends RuntimeException implements ApiExceptionInterf
     private final String errorDescription;
 
     public ApiException(ErrorCodeInterface errorCodeInterface) {
-        super(errorCodeInterface.getDescription());
+        super(errorCodeInterface.getDescription(), null, true, !errorCodeInterface.isExpected());
         this.errorCodeInterface = errorCodeInterface;
         this.errorDescription = errorCodeInterface.getDescription();
     }
 
     public ApiException(ErrorCodeInterface errorCodeInterface, String errorDescription) {
-        super(errorCodeInterface.getDescription());
+        super(errorCodeInterface.getDescription(), null, true, !errorCodeInterface.isExpected());
         this.errorCodeInterface = errorCodeInterface;
         this.errorDescription = errorDescription;
     }
 
     public ApiException(ErrorCodeInterface errorCodeInterface,  Throwable tx) {
-        super(tx);
+        super(tx == null ? null : tx.toString(), tx, true, !errorCodeInterface.isExpected());
         this.errorCodeInterface = errorCodeInterface;
         this.errorDescription = errorCodeInterface.getDescription();
     }
 
     public ApiException(ErrorCodeInterface errorCodeInterface, String errorDescription, Throwable tx) {
-        super(tx);
+        super(tx == null ? null : tx.toString(), tx, true, !errorCodeInterface.isExpected());
         this.errorCodeInterface = errorCodeInterface;
         this.errorDescription = errorDescription;
     }
@@ -0,0 +1,54 @@
+package org.delivery.api.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 라우팅을 트랜잭션 readOnly 여부와 관계없이 지정하기 위한 컨텍스트
+ *
+ * runOnPrimary : 읽기 전용 트랜잭션이라도 primary 로 (read-your-writes)
+ * runOnReplica : 트랜잭션 없이 실행되는 대용량 조회(내보내기 등)를 replica 로
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Integer> PRIMARY_FORCED_DEPTH = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<Boolean> REPLICA_PREFERRED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED_DEPTH.get() > 0;
+    }
+
+    public static boolean isReplicaPreferred() {
+        return Boolean.TRUE.equals(REPLICA_PREFERRED.get());
+    }
+
+    public static void runOnReplica(Runnable runnable) {
+        var previous = REPLICA_PREFERRED.get();
+        REPLICA_PREFERRED.set(Boolean.TRUE);
+        try {
+            runnable.run();
+        } finally {
+            if (previous == null) {
+                REPLICA_PREFERRED.remove();
+            } else {
+                REPLICA_PREFERRED.set(previous);
+            }
+        }
+    }
+
+    public static <T> T runOnPrimary(Supplier<T> supplier) {
+        PRIMARY_FORCED_DEPTH.set(PRIMARY_FORCED_DEPTH.get() + 1);
+        try {
+            return supplier.get();
+        } finally {
+            var depth = PRIMARY_FORCED_DEPTH.get() - 1;
+            if (depth == 0) {
+                PRIMARY_FORCED_DEPTH.remove();
+            } else {
+                PRIMARY_FORCED_DEPTH.set(depth);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.delivery.api.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 replica 라우팅 설정 (application.yaml 의 datasource.routing.*)
+ *
+ * primary 는 spring.datasource 설정을 그대로 사용한다.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * replica 선택 방식
+     */
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+
+    /**
+     * replica 상태 확인 주기
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연 확인 쿼리 (지연 초를 첫 컬럼으로 반환), 비어 있으면 연결 확인만 한다.
+     * 예) SELECT TIMESTAMPDIFF(SECOND, ts, NOW()) FROM replication_heartbeat
+     */
+    private String lagQuery;
+
+    /**
+     * 이 값보다 지연된 replica 는 사용하지 않는다.
+     */
+    private Duration maxReplicaLag = Duration.ofSeconds(1);
+
+    /**
+     * 쓰기 직후 이 시간 동안은 같은 키의 조회를 primary 에서 한다. (read-your-writes)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * replica 에도 primary 와 같은 flyway 스크립트(spring.flyway.locations)를 적용한다.
+     * 복제로 스키마를 받지 않는 로컬 메모리 DB replica 용 (replica 프로파일)
+     */
+    private boolean migrateReplicas = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+}
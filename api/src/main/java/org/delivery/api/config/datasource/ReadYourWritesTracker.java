@@ -0,0 +1,41 @@
+package org.delivery.api.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 최근에 쓰기가 일어난 키(예: 가입한 사용자의 email, id)를 기억해서
+ * 복제 지연 동안 해당 키의 조회를 primary 로 보낸다.
+ *
+ * 키는 read-your-writes-window 가 지나면 자동으로 사라지며, 최대 개수가 제한되어 있다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-window:PT5S}") Duration window
+    ) {
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite(String key) {
+        recentWrites.put(key, Boolean.TRUE);
+    }
+
+    public <T> T read(String key, Supplier<T> supplier) {
+        if (recentWrites.getIfPresent(key) != null) {
+            return DataSourceRoutingContext.runOnPrimary(supplier);
+        }
+        return supplier.get();
+    }
+}
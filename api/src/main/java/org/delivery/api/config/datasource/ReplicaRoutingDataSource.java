@@ -0,0 +1,157 @@
+package org.delivery.api.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * @Transactional(readOnly = true) 작업은 replica 로, 나머지는 primary 로 보내는 DataSource
+ *
+ * - 커넥션을 실제로 얻는 시점에 트랜잭션의 readOnly 여부를 봐야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * - replica 는 주기적으로 연결/복제 지연을 확인하고, 비정상이거나 지연이 큰 replica 는 건너뛴다.
+ * - 사용 가능한 replica 가 없으면 primary 로 보낸다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final DataSourceRoutingProperties properties;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    private volatile List<Replica> healthyReplicas;
+
+    public ReplicaRoutingDataSource(
+            HikariDataSource primary,
+            List<HikariDataSource> replicaDataSources,
+            DataSourceRoutingProperties properties
+    ) {
+        this.primary = primary;
+        this.properties = properties;
+
+        var replicaList = new ArrayList<Replica>();
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            replicaList.add(new Replica("replica-" + i, replicaDataSources.get(i)));
+        }
+        this.replicas = List.copyOf(replicaList);
+        this.healthyReplicas = this.replicas;
+
+        var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(it -> targets.put(it.key(), it.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "replica-health-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (DataSourceRoutingContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+
+        // runOnReplica 는 트랜잭션 밖의 조회에만 적용
+        var replicaPreferred = DataSourceRoutingContext.isReplicaPreferred()
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !replicaPreferred) {
+            return PRIMARY;
+        }
+
+        var candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+
+        return select(candidates).key();
+    }
+
+    private Replica select(List<Replica> candidates) {
+        if (properties.getStrategy() == DataSourceRoutingProperties.Strategy.LEAST_LOADED) {
+            var selected = candidates.get(0);
+            for (var candidate : candidates) {
+                if (candidate.activeConnections() < selected.activeConnections()) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+
+        var index = Math.floorMod(roundRobin.getAndIncrement(), candidates.size());
+        return candidates.get(index);
+    }
+
+    private void checkReplicas() {
+        var healthy = replicas.stream()
+                .filter(this::isHealthy)
+                .collect(Collectors.toUnmodifiableList());
+
+        if (healthy.size() != healthyReplicas.size()) {
+            log.warn("healthy replicas changed : {} -> {}",
+                    healthyReplicas.stream().map(Replica::key).collect(Collectors.toList()),
+                    healthy.stream().map(Replica::key).collect(Collectors.toList()));
+        }
+        healthyReplicas = healthy;
+    }
+
+    private boolean isHealthy(Replica replica) {
+        try (var connection = replica.dataSource().getConnection()) {
+            if (!connection.isValid(1)) {
+                return false;
+            }
+
+            var lagQuery = properties.getLagQuery();
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return true;
+            }
+
+            try (var statement = connection.createStatement();
+                 var resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                var lagSeconds = resultSet.getLong(1);
+                // NULL 이면 복제가 멈춘 상태
+                return !resultSet.wasNull() && lagSeconds * 1000 <= properties.getMaxReplicaLag().toMillis();
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("replica health check fail : {}, {}", replica.key(), e.toString());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.forEach(it -> it.dataSource().close());
+        primary.close();
+    }
+
+    private record Replica(String key, HikariDataSource dataSource) {
+        int activeConnections() {
+            var pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.delivery.api.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * datasource.routing.enabled=true 인 경우 primary + replica 라우팅 DataSource 를 등록
+ *
+ * primary 는 spring.datasource 설정, replica 는 datasource.routing.replicas 설정을 사용한다.
+ * migrate-replicas=true 이면 replica 에도 primary 와 같은 flyway 스크립트를 적용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties routingProperties,
+            @Value("${spring.flyway.locations:classpath:db/migration}") List<String> flywayLocations
+    ) {
+        if (routingProperties.isMigrateReplicas()) {
+            routingProperties.getReplicas().forEach(it -> Flyway.configure()
+                    .dataSource(it.getUrl(), it.getUsername(), it.getPassword())
+                    .locations(flywayLocations.toArray(String[]::new))
+                    .load()
+                    .migrate());
+        }
+
+        var primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+
+        var replicas = routingProperties.getReplicas().stream()
+                .map(it -> {
+                    var replica = new HikariDataSource();
+                    replica.setJdbcUrl(it.getUrl());
+                    replica.setUsername(it.getUsername());
+                    replica.setPassword(it.getPassword());
+                    if (it.getDriverClassName() != null) {
+                        replica.setDriverClassName(it.getDriverClassName());
+                    }
+                    replica.setMaximumPoolSize(it.getMaximumPoolSize());
+                    replica.setReadOnly(true);
+                    return replica;
+                })
+                .collect(Collectors.toList());
+        for (int i = 0; i < replicas.size(); i++) {
+            replicas.get(i).setPoolName("replica-" + i);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, routingProperties);
+    }
+
+    // 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다.
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,117 @@
+package org.delivery.api.config.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나를 계층별 시간으로 나누어 누적 (요청 스레드 전용)
+ *
+ * 계층은 스택으로 관리하며 각 계층에는 자기 시간(exclusive)만 더한다.
+ * 예) business 안에서 service 를 호출하면 그 구간은 service 에만 더해지므로 모든 계층의 합 = 요청 전체 시간
+ * FILTER 는 가장 바깥 계층으로, 다른 계층에 속하지 않는 시간 (필터 체인, DispatcherServlet, 직렬화 등) 이 된다.
+ */
+public final class LayerTiming {
+
+    public enum Layer {
+        FILTER, INTERCEPTOR, BUSINESS, CONVERTER, SERVICE, SQL;
+
+        private final String metricName = name().toLowerCase();
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final Layer[] LAYERS = Layer.values();
+    private static final ThreadLocal<LayerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] nanos = new long[LAYERS.length];
+    private Layer[] stack = new Layer[16];
+    private int depth;
+    private long lastMarkNanos;
+
+    private LayerTiming() {
+        this.startNanos = System.nanoTime();
+        this.lastMarkNanos = startNanos;
+        this.stack[depth++] = Layer.FILTER;
+    }
+
+    /**
+     * 요청 시작, LayerTimingFilter 에서만 호출
+     */
+    public static LayerTiming begin() {
+        var timing = new LayerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * 요청 종료, 남은 시간을 바깥 계층에 더하고 스레드에서 제거
+     */
+    public static void end(LayerTiming timing) {
+        timing.mark();
+        CURRENT.remove();
+    }
+
+    /**
+     * 진행 중인 요청이 없으면 (배치, 스케줄러 스레드 등) null
+     */
+    public static LayerTiming current() {
+        return CURRENT.get();
+    }
+
+    public void enter(Layer layer) {
+        mark();
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = layer;
+    }
+
+    public void exit() {
+        mark();
+        if (depth > 1) {
+            depth--;
+        }
+    }
+
+    public long getNanos(Layer layer) {
+        return nanos[layer.ordinal()];
+    }
+
+    public long getTotalNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값 (ms), 현재 시점까지의 값
+     * 예) filter;dur=0.412, interceptor;dur=0.080, business;dur=1.204, ..., total;dur=2.950
+     */
+    public String toServerTiming() {
+        mark();
+        var sb = new StringBuilder(128);
+        for (var layer : LAYERS) {
+            appendMetric(sb, layer.getMetricName(), nanos[layer.ordinal()]);
+            sb.append(", ");
+        }
+        appendMetric(sb, "total", getTotalNanos());
+        return sb.toString();
+    }
+
+    // 마지막 기록 시점부터 지금까지를 현재(스택 맨 위) 계층에 더한다.
+    private void mark() {
+        var now = System.nanoTime();
+        nanos[stack[depth - 1].ordinal()] += now - lastMarkNanos;
+        lastMarkNanos = now;
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long nanos) {
+        var micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        sb.append(name).append(";dur=").append(micros / 1000).append('.');
+        var fraction = micros % 1000;
+        if (fraction < 100) sb.append('0');
+        if (fraction < 10) sb.append('0');
+        sb.append(fraction);
+    }
+}
@@ -0,0 +1,52 @@
+package org.delivery.api.config.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Business, @Converter, @Service 클래스와 interceptor 의 실행 시간을 LayerTiming 에 더한다.
+ *
+ * @Business / @Converter 는 @Service 를 메타 어노테이션으로 가지지만 @within 은 직접 붙은 어노테이션만 보므로 중복 측정되지 않는다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "layer-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LayerTimingAspect {
+
+    @Around("execution(* org.springframework.web.servlet.HandlerInterceptor+.preHandle(..)) && within(org.delivery.api.interceptor..*)")
+    public Object interceptor(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, LayerTiming.Layer.INTERCEPTOR);
+    }
+
+    @Around("@within(org.delivery.api.common.annotation.Business)")
+    public Object business(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, LayerTiming.Layer.BUSINESS);
+    }
+
+    @Around("@within(org.delivery.api.common.annotation.Converter)")
+    public Object converter(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, LayerTiming.Layer.CONVERTER);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(org.delivery.api..*)")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, LayerTiming.Layer.SERVICE);
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, LayerTiming.Layer layer) throws Throwable {
+        var timing = LayerTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+
+        timing.enter(layer);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.exit();
+        }
+    }
+}
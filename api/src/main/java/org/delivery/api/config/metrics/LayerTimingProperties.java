@@ -0,0 +1,32 @@
+package org.delivery.api.config.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층별 요청 시간 측정 설정 (application.yaml 의 layer-timing.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "layer-timing")
+public class LayerTimingProperties {
+
+    /**
+     * false 이면 필터 / aspect / DataSource 프록시를 모두 등록하지 않는다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * true 이면 응답에 Server-Timing 헤더를 붙인다 (브라우저 개발자 도구, 부하 테스트에서 확인용)
+     */
+    private boolean serverTimingHeader = false;
+
+    /**
+     * http.server.layer 타이머가 계산할 백분위
+     */
+    private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.99, 0.999));
+}
@@ -0,0 +1,44 @@
+package org.delivery.api.config.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 바디를 쓰기 직전에 지금까지의 계층별 시간을 Server-Timing 헤더로 내려준다.
+ *
+ * 바디를 쓰기 전이어야 헤더를 붙일 수 있으므로 직렬화 시간은 포함되지 않으며,
+ * HttpServletResponse 에 직접 쓰는 스트리밍 응답 (일괄 가입, 내보내기) 에는 붙지 않는다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "layer-timing", name = {"enabled", "server-timing-header"}, havingValue = "true")
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        var timing = LayerTiming.current();
+        if (timing != null) {
+            response.getHeaders().set(SERVER_TIMING_HEADER, timing.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,59 @@
+package org.delivery.api.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource 프록시가 실행한 문장마다 호출
+ *
+ * 요청 안이면 SqlStatistics 에 더하고, slow-query-threshold 를 넘은 문장은 sql.slow 카운터를 올린 뒤 표본만 로그로 남긴다.
+ * (show-sql 처럼 모든 문장을 출력하지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sql-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementRecorder {
+
+    private final SqlStatisticsProperties properties;
+    private final long slowQueryThresholdNanos;
+    private final Counter slowQueries;
+
+    public SqlStatementRecorder(SqlStatisticsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.slowQueryThresholdNanos = properties.getSlowQueryThreshold().toNanos();
+        this.slowQueries = Counter.builder("sql.slow")
+                .description("Statements slower than sql-statistics.slow-query-threshold")
+                .register(meterRegistry);
+    }
+
+    public void onStatement(String sql, long nanos) {
+        var statistics = SqlStatistics.current();
+        if (statistics != null) {
+            statistics.record(sql, nanos);
+        }
+
+        if (nanos < slowQueryThresholdNanos) {
+            return;
+        }
+        slowQueries.increment();
+        if (ThreadLocalRandom.current().nextDouble() < properties.getSlowQuerySampleRate()) {
+            log.warn("slow query {} ms uri : {} , sql : {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    statistics == null ? "-" : statistics.getRequestUri(),
+                    abbreviate(sql));
+        }
+    }
+
+    public String abbreviate(String sql) {
+        if (sql == null || sql.length() <= properties.getMaxSqlLength()) {
+            return sql;
+        }
+        return sql.substring(0, properties.getMaxSqlLength()) + "...";
+    }
+}
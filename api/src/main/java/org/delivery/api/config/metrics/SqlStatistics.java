@@ -0,0 +1,75 @@
+package org.delivery.api.config.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행된 SQL 수 / 시간 / 같은 문장 반복 횟수 (요청 스레드 전용)
+ *
+ * PreparedStatement 는 파라미터를 뺀 SQL 문자열이 같으므로, 같은 문장이 여러 번 실행되면 N+1 조회로 본다.
+ * executeBatch 는 묶음 하나를 한 번으로 센다.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final String requestUri;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statementCount;
+    private long totalNanos;
+
+    private SqlStatistics(String requestUri) {
+        this.requestUri = requestUri;
+    }
+
+    /**
+     * 요청 시작, SqlStatisticsFilter 에서만 호출
+     */
+    public static SqlStatistics begin(String requestUri) {
+        var statistics = new SqlStatistics(requestUri);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 진행 중인 요청이 없으면 (배치, 스케줄러 스레드 등) null
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public void record(String sql, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 가장 많이 반복된 문장과 횟수, 실행된 SQL 이 없으면 null
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        Map.Entry<String, Integer> mostRepeated = null;
+        for (var entry : executions.entrySet()) {
+            if (mostRepeated == null || entry.getValue() > mostRepeated.getValue()) {
+                mostRepeated = entry;
+            }
+        }
+        return mostRepeated;
+    }
+}
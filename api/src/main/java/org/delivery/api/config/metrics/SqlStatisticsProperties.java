@@ -0,0 +1,46 @@
+package org.delivery.api.config.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 요청별 SQL 통계 / 느린 쿼리 로그 설정 (application.yaml 의 sql-statistics.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sql-statistics")
+public class SqlStatisticsProperties {
+
+    /**
+     * false 이면 요청별 SQL 수 / N+1 / 느린 쿼리 기록을 하지 않는다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 요청에서 같은 문장이 이 횟수 이상 실행되면 N+1 로 보고 http.server.sql.repeated 를 올린다.
+     */
+    private int repeatedThreshold = 5;
+
+    /**
+     * 이 시간 이상 걸린 문장은 느린 쿼리
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * 느린 쿼리 중 로그로 남길 비율 (0.0 ~ 1.0), 건수는 sql.slow 카운터로 모두 센다.
+     */
+    private double slowQuerySampleRate = 0.1;
+
+    /**
+     * 로그에 남길 SQL 최대 길이
+     */
+    private int maxSqlLength = 1000;
+
+    /**
+     * 같은 경로의 N+1 경고 로그 최소 간격
+     */
+    private Duration repeatedLogInterval = Duration.ofMinutes(1);
+}
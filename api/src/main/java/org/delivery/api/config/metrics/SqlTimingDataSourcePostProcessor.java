@@ -0,0 +1,131 @@
+package org.delivery.api.config.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * dataSource 빈을 JDK 프록시로 감싸 Statement 의 execute* 시간을 측정한다.
+ *
+ * LayerTiming 의 SQL 계층에 시간을 더하고, SqlStatementRecorder 에 문장과 시간을 넘긴다. (요청별 SQL 수 / N+1 / 느린 쿼리)
+ * PreparedStatement 는 prepareStatement(sql) 때의 SQL 을 기억해 두었다가 execute 시점에 사용한다.
+ *
+ * JPA 와 JdbcTemplate (내보내기) 모두 dataSource 빈을 사용하므로 한 곳에서 측정된다.
+ * 라우팅 모드에서도 dataSource 는 LazyConnectionDataSourceProxy 하나뿐이라 replica 풀을 중복 측정하지 않는다.
+ * unwrap / isWrapperFor 는 원본으로 넘기므로 Hikari 풀 메트릭은 그대로 동작한다.
+ */
+@Component
+@ConditionalOnExpression("${layer-timing.enabled:true} or ${sql-statistics.enabled:true}")
+public class SqlTimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 생성되므로 recorder 는 첫 문장 실행 때 가져온다.
+    private final ObjectProvider<SqlStatementRecorder> recorderProvider;
+    private volatile SqlStatementRecorder recorder;
+    private volatile boolean recorderResolved;
+
+    public SqlTimingDataSourcePostProcessor(ObjectProvider<SqlStatementRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+            return proxy(DataSource.class, new TimingHandler(dataSource, null, this::recorder));
+        }
+        return bean;
+    }
+
+    private SqlStatementRecorder recorder() {
+        if (!recorderResolved) {
+            recorder = recorderProvider.getIfAvailable();
+            recorderResolved = true;
+        }
+        return recorder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, TimingHandler handler) {
+        return (T) Proxy.newProxyInstance(
+                SqlTimingDataSourcePostProcessor.class.getClassLoader(),
+                new Class<?>[]{type},
+                handler
+        );
+    }
+
+    /**
+     * @param sql Connection.prepareStatement / prepareCall 로 만든 Statement 의 SQL, 그 외에는 null
+     */
+    private record TimingHandler(Object target, String sql, Supplier<SqlStatementRecorder> recorder) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!(target instanceof Statement) || !method.getName().startsWith("execute")) {
+                try {
+                    return wrap(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+
+            var timing = LayerTiming.current();
+            if (timing != null) {
+                timing.enter(LayerTiming.Layer.SQL);
+            }
+            var startNanos = System.nanoTime();
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                var nanos = System.nanoTime() - startNanos;
+                if (timing != null) {
+                    timing.exit();
+                }
+                var statementRecorder = recorder.get();
+                if (statementRecorder != null) {
+                    statementRecorder.onStatement(sqlOf(method, args), nanos);
+                }
+            }
+        }
+
+        // Statement.execute(sql) 는 인자의 SQL, PreparedStatement.execute() 는 준비할 때의 SQL
+        private String sqlOf(Method method, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                return statementSql;
+            }
+            if (sql != null) {
+                return sql;
+            }
+            return method.getName();
+        }
+
+        // DataSource -> Connection -> Statement 순서로 반환값도 감싼다.
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object wrap(Method method, Object[] args, Object result) {
+            if (result == null) {
+                return null;
+            }
+            var returnType = method.getReturnType();
+            if (returnType == Connection.class) {
+                return proxy((Class) returnType, new TimingHandler(result, null, recorder));
+            }
+            if (Statement.class.isAssignableFrom(returnType) && target instanceof Connection) {
+                var preparedSql = args != null && args.length > 0 && args[0] instanceof String statementSql ? statementSql : null;
+                return proxy((Class) returnType, new TimingHandler(result, preparedSql, recorder));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.delivery.api.config.outbox;
+
+import org.delivery.db.outbox.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 발행된 이벤트를 메모리에 모아 두는 sink (outbox.sink=memory, 로컬 / 테스트에서 발행 결과 확인용)
+ */
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final List<OutboxEvent> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(OutboxEvent event) {
+        published.add(event);
+    }
+
+    /**
+     * 지금까지 발행된 이벤트 (발행 순서)
+     */
+    public List<OutboxEvent> getPublished() {
+        return new ArrayList<>(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
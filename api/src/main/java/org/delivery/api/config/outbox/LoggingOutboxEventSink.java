@@ -0,0 +1,17 @@
+package org.delivery.api.config.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.db.outbox.OutboxEvent;
+
+/**
+ * 이벤트를 로그로만 남기는 기본 sink (연동할 브로커가 정해지기 전까지)
+ */
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public void publish(OutboxEvent event) {
+        log.info("outbox event id : {} , {}:{} , type : {} , payload : {}",
+                event.id(), event.aggregateType(), event.aggregateId(), event.eventType(), event.payload());
+    }
+}
@@ -0,0 +1,29 @@
+package org.delivery.api.config.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * outbox sink 등록
+ *
+ * 다른 OutboxEventSink 빈(브로커 연동 등)을 등록하면 기본 sink 대신 사용된다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "sink", havingValue = "memory")
+    public InMemoryOutboxEventSink inMemoryOutboxEventSink() {
+        return new InMemoryOutboxEventSink();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventSink.class)
+    public OutboxEventSink loggingOutboxEventSink() {
+        return new LoggingOutboxEventSink();
+    }
+}
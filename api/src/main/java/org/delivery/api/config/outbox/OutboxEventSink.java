@@ -0,0 +1,14 @@
+package org.delivery.api.config.outbox;
+
+import org.delivery.db.outbox.OutboxEvent;
+
+/**
+ * outbox 이벤트를 외부(메시지 브로커 등)로 발행하는 대상
+ *
+ * 발행에 실패하면 예외를 던진다. 같은 aggregate 의 이후 이벤트는 이번 batch 에서 발행하지 않고 다음 조회 때 다시 시도한다.
+ * 재시도로 같은 이벤트가 두 번 이상 발행될 수 있으므로 (at-least-once) 받는 쪽은 event id 로 중복을 걸러야 한다.
+ */
+public interface OutboxEventSink {
+
+    void publish(OutboxEvent event);
+}
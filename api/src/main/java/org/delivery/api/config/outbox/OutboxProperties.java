@@ -0,0 +1,39 @@
+package org.delivery.api.config.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * outbox relay 설정 (application.yaml 의 outbox.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /**
+     * false 이면 relay 를 실행하지 않는다. (이벤트는 테이블에 계속 쌓임)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 발행할 이벤트가 없을 때 다시 조회하기까지의 간격
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 트랜잭션에서 잠그고 발행 / 삭제할 최대 건수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 한 번 깨어났을 때 연속으로 처리할 최대 batch 수 (batch 가 가득 찬 경우만 이어서 처리)
+     */
+    private int maxBatchesPerPoll = 10;
+
+    /**
+     * 발행 대상 : log (로그로만 남김), memory (InMemoryOutboxEventSink, 로컬 / 테스트용)
+     */
+    private String sink = "log";
+}
@@ -0,0 +1,159 @@
+package org.delivery.api.config.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.db.outbox.OutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox_event 테이블의 이벤트를 sink 로 발행하는 relay
+ *
+ * poll-interval 마다 한 트랜잭션에서 batch-size 개를 잠그고(SKIP LOCKED) 발행한 뒤 발행된 행을 한 문장으로 삭제한다.
+ * 여러 인스턴스가 동시에 실행해도 서로 다른 행을 가져가고, 같은 aggregate(사용자) 의 이벤트는 id 순서로만 발행된다.
+ * 발행 후 커밋 전에 실패하면 다음 조회에서 다시 발행되므로 전달은 at-least-once 이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSink outboxEventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final ScheduledExecutorService relay;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Timer deliveryDelay;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventSink outboxEventSink,
+            PlatformTransactionManager transactionManager,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventSink = outboxEventSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        this.relay = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.published = Counter.builder("outbox.published").register(meterRegistry);
+        this.failed = Counter.builder("outbox.failed").register(meterRegistry);
+        // 이벤트 생성부터 발행까지 걸린 시간
+        this.deliveryDelay = Timer.builder("outbox.delivery.delay")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        // 가장 오래된 미발행 이벤트의 나이, relay 가 멈추거나 밀리면 계속 커진다.
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        var interval = properties.getPollInterval().toMillis();
+        relay.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        relay.shutdown();
+        relay.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // batch 가 가득 찼으면 쌓인 이벤트가 더 있다고 보고 간격 없이 이어서 처리
+    private void poll() {
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+                var relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed == null || relayed < properties.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("outbox relay fail", e);
+        }
+
+        try {
+            updateLag();
+        } catch (RuntimeException e) {
+            log.warn("outbox lag check fail", e);
+        }
+    }
+
+    private int relayBatch() {
+        var events = outboxEventRepository.claimBatch(properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        var publishedIds = new ArrayList<Long>(events.size());
+        var failedAggregates = new HashSet<String>();
+        for (var event : events) {
+            var aggregateKey = event.aggregateType() + ":" + event.aggregateId();
+            // 앞선 이벤트가 실패한 aggregate 는 순서를 지키기 위해 이번 batch 에서 더 발행하지 않는다.
+            if (failedAggregates.contains(aggregateKey)) {
+                continue;
+            }
+
+            try {
+                outboxEventSink.publish(event);
+                publishedIds.add(event.id());
+                deliveryDelay.record(Duration.between(event.createdAt(), LocalDateTime.now()));
+            } catch (RuntimeException e) {
+                failedAggregates.add(aggregateKey);
+                failed.increment();
+                log.warn("outbox publish fail id : {} , {}", event.id(), aggregateKey, e);
+            }
+        }
+
+        outboxEventRepository.deleteByIds(publishedIds);
+        published.increment(publishedIds.size());
+        return events.size();
+    }
+
+    private void updateLag() {
+        var lag = outboxEventRepository.findOldestCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        lagMillis.set(Math.max(lag, 0L));
+    }
+
+    /**
+     * 테스트 / 로컬에서 주기를 기다리지 않고 한 batch 를 바로 발행
+     *
+     * @return 처리한 이벤트 수
+     */
+    public int relayOnce() {
+        var relayed = transactionTemplate.execute(status -> relayBatch());
+        updateLag();
+        return relayed == null ? 0 : relayed;
+    }
+}
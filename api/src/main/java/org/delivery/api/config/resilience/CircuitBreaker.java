@@ -0,0 +1,150 @@
+package org.delivery.api.config.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 window-size 번의 호출 결과로 여닫는 circuit breaker
+ *
+ * CLOSED : 모두 허용, 실패율 또는 느린 호출 비율이 기준 이상이면 OPEN
+ * OPEN : open-duration 동안 모두 거절, 지나면 HALF_OPEN
+ * HALF_OPEN : half-open-calls 번만 시험 호출, 모두 성공하면 CLOSED 하나라도 실패 / 느리면 다시 OPEN
+ *
+ * CLOSED 상태의 허용 확인은 volatile 읽기 한 번이고, 결과 기록만 짧게 잠근다.
+ */
+@Slf4j
+class CircuitBreaker {
+
+    enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+
+    private final String name;
+    private final ResilienceProperties.CircuitBreaker config;
+    private final long openDurationNanos;
+
+    private volatile State state = State.CLOSED;
+
+    // 최근 호출 결과 ring buffer (CLOSED 에서만 사용)
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int index;
+    private int count;
+    private int failureCount;
+    private int slowCount;
+
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(String name, ResilienceProperties.CircuitBreaker config) {
+        this.name = name;
+        this.config = config;
+        this.openDurationNanos = config.getOpenDuration().toNanos();
+        this.failures = new boolean[config.getWindowSize()];
+        this.slows = new boolean[config.getWindowSize()];
+    }
+
+    State getState() {
+        return state;
+    }
+
+    boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                        return false;
+                    }
+                    transitionTo(State.HALF_OPEN);
+                    halfOpenPermits = config.getHalfOpenCalls() - 1;
+                    halfOpenSuccesses = 0;
+                    return true;
+                default:
+                    if (halfOpenPermits > 0) {
+                        halfOpenPermits--;
+                        return true;
+                    }
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * 허용받았지만 실행하지 않은 경우 (bulkhead 거절 등) 시험 호출 자리를 돌려준다.
+     */
+    synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized void onResult(boolean failure, boolean slow) {
+        switch (state) {
+            case HALF_OPEN:
+                if (failure || slow) {
+                    open();
+                } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                    close();
+                }
+                return;
+            case OPEN:
+                // 열리기 전에 시작된 호출의 결과는 무시
+                return;
+            default:
+                record(failure, slow);
+                if (count >= config.getMinimumCalls()
+                        && ((double) failureCount / count >= config.getFailureRateThreshold()
+                        || (double) slowCount / count >= config.getSlowCallRateThreshold())) {
+                    log.warn("circuit open : {} , failure {} / slow {} of last {} calls", name, failureCount, slowCount, count);
+                    open();
+                }
+        }
+    }
+
+    private void record(boolean failure, boolean slow) {
+        if (count == failures.length) {
+            if (failures[index]) failureCount--;
+            if (slows[index]) slowCount--;
+        } else {
+            count++;
+        }
+        failures[index] = failure;
+        slows[index] = slow;
+        if (failure) failureCount++;
+        if (slow) slowCount++;
+        index = (index + 1) % failures.length;
+    }
+
+    private void open() {
+        openedAtNanos = System.nanoTime();
+        transitionTo(State.OPEN);
+    }
+
+    private void close() {
+        index = 0;
+        count = 0;
+        failureCount = 0;
+        slowCount = 0;
+        transitionTo(State.CLOSED);
+        log.info("circuit closed : {}", name);
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+    }
+}
@@ -0,0 +1,18 @@
+package org.delivery.api.config.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 를 사용하는 메서드를 bulkhead + circuit breaker 로 감싼다. (ResilienceAspect)
+ *
+ * value 는 작업 이름으로, 같은 이름끼리 동시 실행 수 / 실패율을 공유한다. (resilience.operations.<value> 로 개별 설정)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Guarded {
+
+    String value();
+}
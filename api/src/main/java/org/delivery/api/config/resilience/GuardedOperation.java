@@ -0,0 +1,110 @@
+package org.delivery.api.config.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Guarded 작업 하나의 bulkhead (semaphore) + circuit breaker
+ *
+ * circuit breaker 를 먼저 확인하므로 열려 있으면 bulkhead 자리를 차지하지 않고 바로 거절한다.
+ * ApiException (사용자 없음, 중복 가입 등) 은 DB 가 정상 응답한 결과이므로 실패로 세지 않는다.
+ *
+ * 메트릭 (name 태그)
+ * resilience.calls (outcome=success|failure|bulkhead_rejected|circuit_rejected), resilience.calls.slow
+ * resilience.bulkhead.available : 남은 동시 실행 자리
+ * resilience.circuit.state : 0 closed, 1 open, 2 half-open
+ */
+class GuardedOperation {
+
+    @FunctionalInterface
+    interface Call {
+        Object proceed() throws Throwable;
+    }
+
+    private final String name;
+    private final Semaphore semaphore;
+    private final long maxWaitNanos;
+    private final long slowCallNanos;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter slow;
+    private final Counter bulkheadRejected;
+    private final Counter circuitRejected;
+
+    GuardedOperation(String name, ResilienceProperties properties, MeterRegistry meterRegistry) {
+        var bulkheadConfig = properties.bulkheadOf(name);
+        var circuitBreakerConfig = properties.circuitBreakerOf(name);
+
+        this.name = name;
+        this.semaphore = new Semaphore(bulkheadConfig.getMaxConcurrent());
+        this.maxWaitNanos = bulkheadConfig.getMaxWait().toNanos();
+        this.slowCallNanos = circuitBreakerConfig.getSlowCallDuration().toNanos();
+        this.circuitBreaker = new CircuitBreaker(name, circuitBreakerConfig);
+
+        this.succeeded = counter(meterRegistry, "success");
+        this.failed = counter(meterRegistry, "failure");
+        this.bulkheadRejected = counter(meterRegistry, "bulkhead_rejected");
+        this.circuitRejected = counter(meterRegistry, "circuit_rejected");
+        this.slow = Counter.builder("resilience.calls.slow").tag("name", name).register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.circuit.state", circuitBreaker, it -> it.getState().getCode())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("resilience.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    Object execute(Call call) throws Throwable {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitRejected.increment();
+            throw new ApiException(ErrorCode.CIRCUIT_OPEN, "circuit open : " + name);
+        }
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            circuitBreaker.releasePermission();
+            bulkheadRejected.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY, "bulkhead full : " + name);
+        }
+
+        var startNanos = System.nanoTime();
+        var failure = false;
+        try {
+            return call.proceed();
+        } catch (ApiException e) {
+            throw e;
+        } catch (Throwable t) {
+            failure = true;
+            throw t;
+        } finally {
+            semaphore.release();
+            var isSlow = System.nanoTime() - startNanos >= slowCallNanos;
+            circuitBreaker.onResult(failure, isSlow);
+            (failure ? failed : succeeded).increment();
+            if (isSlow) {
+                slow.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.delivery.api.config.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 작업 이름별 GuardedOperation 보관 + 실행
+ *
+ * 메서드 단위는 @Guarded (ResilienceAspect), 메서드 일부만 감쌀 때는 execute(name, supplier) 를 직접 호출한다.
+ * resilience.enabled=false 이면 그대로 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class GuardedOperations {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, GuardedOperation> operations = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Supplier<T> supplier) {
+        try {
+            return (T) executeCall(name, supplier::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // Supplier 는 checked 예외를 던지지 않는다.
+            throw new IllegalStateException(t);
+        }
+    }
+
+    Object executeCall(String name, GuardedOperation.Call call) throws Throwable {
+        if (!properties.isEnabled()) {
+            return call.proceed();
+        }
+        var operation = operations.computeIfAbsent(name, it -> new GuardedOperation(it, properties, meterRegistry));
+        return operation.execute(call);
+    }
+}
@@ -0,0 +1,28 @@
+package org.delivery.api.config.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Guarded 메서드를 작업 이름별 GuardedOperation 으로 실행
+ *
+ * @Transactional 보다 바깥에서 실행되므로 (order) 자리를 얻지 못한 요청은 DB 커넥션을 잡지 않고 거절된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ResilienceAspect {
+
+    private final GuardedOperations guardedOperations;
+
+    @Around("@annotation(guarded)")
+    public Object guard(ProceedingJoinPoint joinPoint, Guarded guarded) throws Throwable {
+        return guardedOperations.executeCall(guarded.value(), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,102 @@
+package org.delivery.api.config.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * bulkhead / circuit breaker 설정 (application.yaml 의 resilience.*)
+ *
+ * bulkhead, circuit-breaker 는 모든 작업의 기본값이고 operations.<이름> 에 지정한 값이 우선한다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+
+    /**
+     * false 이면 @Guarded 메서드를 그대로 실행
+     */
+    private boolean enabled = true;
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Map<String, Operation> operations = new LinkedHashMap<>();
+
+    @Data
+    public static class Bulkhead {
+
+        /**
+         * 작업별 동시 실행 최대 수 (DB 커넥션 풀 크기 이하 권장), 나머지 Tomcat 스레드는 다른 요청을 처리할 수 있다.
+         */
+        private int maxConcurrent = 8;
+
+        /**
+         * 자리가 날 때까지 기다리는 최대 시간, 넘으면 SERVER_BUSY (503)
+         */
+        private Duration maxWait = Duration.ofMillis(100);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        /**
+         * 실패율 / 느린 호출 비율을 계산할 최근 호출 수
+         */
+        private int windowSize = 50;
+
+        /**
+         * 최근 호출이 이 수보다 적으면 열지 않는다.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * DB 예외 (ApiException 이 아닌 예외) 비율이 이 값 이상이면 연다.
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * 이 시간 이상 걸린 호출은 느린 호출
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+
+        /**
+         * 느린 호출 비율이 이 값 이상이면 연다.
+         */
+        private double slowCallRateThreshold = 0.8;
+
+        /**
+         * 열린 뒤 이 시간 동안 바로 CIRCUIT_OPEN (503), 지나면 half-open 으로 시험 호출
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * half-open 에서 허용하는 시험 호출 수, 모두 성공하면 닫고 하나라도 실패하면 다시 연다.
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class Operation {
+
+        private Bulkhead bulkhead;
+
+        private CircuitBreaker circuitBreaker;
+    }
+
+    public Bulkhead bulkheadOf(String name) {
+        var operation = operations.get(name);
+        return operation == null || operation.getBulkhead() == null ? bulkhead : operation.getBulkhead();
+    }
+
+    public CircuitBreaker circuitBreakerOf(String name) {
+        var operation = operations.get(name);
+        return operation == null || operation.getCircuitBreaker() == null ? circuitBreaker : operation.getCircuitBreaker();
+    }
+}
@@ -1,8 +1,12 @@
 package org.delivery.api.config.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.api.ApiHttpMessageConverter;
+import org.delivery.api.interceptor.AdminInterceptor;
 import org.delivery.api.interceptor.AuthorizationInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,6 +16,8 @@ import java.util.List;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     private final AuthorizationInterceptor authorizationInterceptor;
+    private final AdminInterceptor adminInterceptor;
+    private final ObjectMapper objectMapper;
 
     private List<String> OPEN_API = List.of(
             "/open-api/**"
@@ -23,6 +29,13 @@ public class WebConfig implements WebMvcConfigurer {
             "/error"
     );
 
+    // 전체 사용자 정보를 내려주거나 (list, export) 한 요청으로 많은 해시를 만드는 (register/bulk) 경로는 관리자만 호출
+    private List<String> ADMIN_API = List.of(
+            "/api/user/list",
+            "/api/user/export",
+            "/api/user/register/bulk"
+    );
+
     private List<String> SWAGGER = List.of(
             "swagger-ui.html",
             "/swagger-ui/**",
@@ -36,5 +49,14 @@ public class WebConfig implements WebMvcConfigurer {
         .excludePathPatterns(OPEN_API)
         .excludePathPatterns(DEFAULT_EXCLUDE_PATHS)
         .excludePathPatterns(SWAGGER);
+
+        registry.addInterceptor(adminInterceptor)
+        .addPathPatterns(ADMIN_API);
+    }
+
+    // Api 응답은 기본 Jackson converter 보다 먼저 ApiHttpMessageConverter 로 쓴다. (요청 바디 읽기는 기존 converter)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ApiHttpMessageConverter(objectMapper));
     }
 }
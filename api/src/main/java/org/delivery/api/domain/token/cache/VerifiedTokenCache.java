@@ -0,0 +1,60 @@
+package org.delivery.api.domain.token.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근에 서명 검증을 통과한 access token 캐시
+ *
+ * 같은 토큰이 반복해서 들어오는 일반적인 경우에는 서명 계산 없이 userId 를 돌려준다.
+ * 크기와 보관 시간이 모두 제한되어 있고, 토큰 자체의 만료 시각은 조회할 때마다 다시 확인한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${token.cache.max-size:100000}") long maxSize,
+            @Value("${token.cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * @return 만료되지 않은 검증 결과, 없거나 만료된 경우 null
+     */
+    public VerifiedToken get(String token) {
+        var verifiedToken = cache.getIfPresent(token);
+        if (verifiedToken == null) {
+            return null;
+        }
+
+        if (verifiedToken.isExpired(System.currentTimeMillis())) {
+            cache.invalidate(token);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(token, verifiedToken);
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(token);
+    }
+
+    public record VerifiedToken(Long userId, long expiredAtEpochMilli) {
+        public boolean isExpired(long nowEpochMilli) {
+            return nowEpochMilli >= expiredAtEpochMilli;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.delivery.api.domain.token.converter;
+
+import org.delivery.api.common.annotation.Converter;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.token.controller.model.TokenResponse;
+import org.delivery.api.domain.token.model.TokenDto;
+
+import java.util.Objects;
+
+@Converter
+public class TokenConverter {
+
+    public TokenResponse toResponse(
+            TokenDto accessToken,
+            TokenDto refreshToken
+    ) {
+        if (Objects.isNull(accessToken) || Objects.isNull(refreshToken)) {
+            throw new ApiException(ErrorCode.NULL_POINT, "TokenDto Null");
+        }
+
+        return TokenResponse.builder()
+                .accessToken(accessToken.getToken())
+                .accessTokenExpiredAt(accessToken.getExpiredAt())
+                .refreshToken(refreshToken.getToken())
+                .refreshTokenExpiredAt(refreshToken.getExpiredAt())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package org.delivery.api.domain.token.helper;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.delivery.api.common.error.TokenErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.token.ifs.TokenHelperIfs;
+import org.delivery.api.domain.token.model.TokenDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HS256 서명 JWT 발급/검증 헬퍼
+ *
+ * 서명 키와 파서는 생성 시점에 한 번만 만들어 메모리에 들고 있고, 요청마다 다시 만들지 않는다.
+ */
+@Component
+public class JwtTokenHelper implements TokenHelperIfs {
+
+    public static final String TOKEN_TYPE_KEY = "type";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final Key key;
+    private final JwtParser parser;
+    private final Long accessTokenPlusHour;
+    private final Long refreshTokenPlusHour;
+
+    public JwtTokenHelper(
+            @Value("${token.secret.key}") String secretKey,
+            @Value("${token.access-token.plus-hour}") Long accessTokenPlusHour,
+            @Value("${token.refresh-token.plus-hour}") Long refreshTokenPlusHour
+    ) {
+        // HS256 은 최소 256bit(32byte) 키가 필요하다.
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.accessTokenPlusHour = accessTokenPlusHour;
+        this.refreshTokenPlusHour = refreshTokenPlusHour;
+    }
+
+    @Override
+    public TokenDto issueAccessToken(Map<String, Object> data) {
+        return issueToken(data, ACCESS_TOKEN_TYPE, accessTokenPlusHour);
+    }
+
+    @Override
+    public TokenDto issueRefreshToken(Map<String, Object> data) {
+        return issueToken(data, REFRESH_TOKEN_TYPE, refreshTokenPlusHour);
+    }
+
+    @Override
+    public Map<String, Object> validationTokenWithThrow(String token) {
+        try {
+            var result = parser.parseClaimsJws(token);
+            return new HashMap<>(result.getBody());
+
+        } catch (Exception e) {
+            if (e instanceof SignatureException) {
+                // 토큰이 유효하지 않을 때
+                throw new ApiException(TokenErrorCode.INVALID_TOKEN, e);
+            } else if (e instanceof ExpiredJwtException) {
+                // 만료된 토큰
+                throw new ApiException(TokenErrorCode.EXPIRED_TOKEN, e);
+            } else {
+                // 그외 에러
+                throw new ApiException(TokenErrorCode.TOKEN_EXCEPTION, e);
+            }
+        }
+    }
+
+    private TokenDto issueToken(Map<String, Object> data, String type, Long plusHour) {
+        var expiredLocalDateTime = LocalDateTime.now().plusHours(plusHour);
+
+        var expiredAt = Date.from(
+                expiredLocalDateTime.atZone(ZoneId.systemDefault()).toInstant()
+        );
+
+        var claims = new HashMap<>(data);
+        claims.put(TOKEN_TYPE_KEY, type);
+
+        var jwtToken = Jwts.builder()
+                .signWith(key, SignatureAlgorithm.HS256)
+                .setClaims(claims)
+                .setExpiration(expiredAt)
+                .compact();
+
+        return TokenDto.builder()
+                .token(jwtToken)
+                .expiredAt(expiredLocalDateTime)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package org.delivery.api.domain.token.service;
+
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.error.TokenErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.token.cache.VerifiedTokenCache;
+import org.delivery.api.domain.token.helper.JwtTokenHelper;
+import org.delivery.api.domain.token.ifs.TokenHelperIfs;
+import org.delivery.api.domain.token.model.TokenDto;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+
+/**
+ * token 에 대한 도메인 로직
+ *
+ * 검증은 서명과 만료 시각만으로 끝나며 DB 를 조회하지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class TokenService {
+    private static final String USER_ID_KEY = "userId";
+
+    private final TokenHelperIfs tokenHelperIfs;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public TokenDto issueAccessToken(Long userId) {
+        var data = new HashMap<String, Object>();
+        data.put(USER_ID_KEY, userId);
+        return tokenHelperIfs.issueAccessToken(data);
+    }
+
+    public TokenDto issueRefreshToken(Long userId) {
+        var data = new HashMap<String, Object>();
+        data.put(USER_ID_KEY, userId);
+        return tokenHelperIfs.issueRefreshToken(data);
+    }
+
+    public Long validationAccessToken(String token) {
+        // 최근에 검증된 토큰이면 서명 계산 생략
+        var verifiedToken = verifiedTokenCache.get(token);
+        if (verifiedToken != null) {
+            return verifiedToken.userId();
+        }
+
+        var map = tokenHelperIfs.validationTokenWithThrow(token);
+
+        // refresh token 으로 api 를 호출하는 경우 차단
+        if (!JwtTokenHelper.ACCESS_TOKEN_TYPE.equals(map.get(JwtTokenHelper.TOKEN_TYPE_KEY))) {
+            throw new ApiException(TokenErrorCode.INVALID_TOKEN);
+        }
+
+        var userId = map.get(USER_ID_KEY);
+        var expiredAt = map.get("exp");
+        if (userId == null || expiredAt == null) {
+            throw new ApiException(ErrorCode.NULL_POINT, "token claim null");
+        }
+
+        var result = Long.parseLong(userId.toString());
+        // exp 는 초 단위
+        var expiredAtEpochMilli = Long.parseLong(expiredAt.toString()) * 1000L;
+        verifiedTokenCache.put(token, new VerifiedTokenCache.VerifiedToken(result, expiredAtEpochMilli));
+
+        return result;
+    }
+}
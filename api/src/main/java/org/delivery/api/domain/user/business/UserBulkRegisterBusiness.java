@@ -0,0 +1,257 @@
+package org.delivery.api.domain.user.business;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.common.annotation.Business;
+import org.delivery.api.common.api.Result;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.error.ErrorCodeInterface;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.user.controller.model.UserBulkRegisterResponse;
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.delivery.api.domain.user.converter.UserConverter;
+import org.delivery.api.domain.user.service.UserService;
+import org.delivery.db.user.UserEntity;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 가입 처리
+ *
+ * 요청 { "body" : [ UserRegisterRequest, ... ] } 을 스트리밍으로 읽으면서 chunk 단위로 저장하고,
+ * 응답 { "result" : ..., "body" : [ UserBulkRegisterResponse, ... ] } 도 chunk 마다 바로 내려보낸다.
+ * 메모리에는 한 chunk 만 유지되므로 한 요청의 항목 수는 제한하지 않는다. (user.bulk-register.chunk-size)
+ * 관리자만 호출할 수 있다. (WebConfig 의 ADMIN_API)
+ */
+@Slf4j
+@Business
+public class UserBulkRegisterBusiness {
+    private final UserService userService;
+    private final UserConverter userConverter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter itemWriter;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public UserBulkRegisterBusiness(
+            UserService userService,
+            UserConverter userConverter,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${user.bulk-register.chunk-size:500}") int chunkSize
+    ) {
+        this.userService = userService;
+        this.userConverter = userConverter;
+        this.objectMapper = objectMapper;
+        // 항목마다 flush 하지 않고 chunk 단위로만 flush
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 1. 요청 body 배열을 하나씩 읽으며 검증 (타입이 맞지 않는 항목은 그 항목만 실패로 쓰고 다음 항목으로 넘어감)
+     * 2. chunkSize 만큼 모이면 entity 로 변환 (비밀번호는 bulk 풀에서 병렬 해시) 해 하나의 트랜잭션으로 저장
+     * 3. chunk 저장이 실패하면 해시해 둔 entity 로 한 건씩 다시 저장해 실패 항목을 골라냄
+     * 4. 항목별 결과를 바로 응답에 씀
+     *
+     * 요청 형식({ "body" : [ ) 은 응답을 쓰기 전에 확인하므로 여기서의 오류는 일반 에러 응답(400) 으로 내려간다.
+     * 응답을 쓰기 시작한 뒤의 오류 (잘못된 json, 닫히지 않은 배열) 는 이미 200 과 앞선 결과가 전송되었으므로
+     * 그 위치의 실패 항목을 마지막 항목으로 쓰고 배열 / 객체를 닫는다. 그 뒤의 항목은 처리하지 않는다.
+     */
+    public void register(InputStream inputStream, OutputStream outputStream) throws IOException {
+        try (var parser = objectMapper.createParser(inputStream)) {
+            moveToBodyArray(parser);
+
+            var generator = objectMapper.createGenerator(outputStream);
+            generator.writeStartObject();
+            generator.writeFieldName("result");
+            itemWriter.writeValue(generator, Result.OK());
+            generator.writeArrayFieldStart("body");
+
+            var chunk = new ArrayList<BulkItem>(chunkSize);
+            var index = 0;
+            UserBulkRegisterResponse abort = null;
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new ApiException(ErrorCode.BAD_REQUEST, "body 배열이 닫히지 않았습니다.");
+                    }
+
+                    var currentIndex = index;
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        index++;
+                        write(generator, failure(currentIndex, null, ErrorCode.BAD_REQUEST, "UserRegisterRequest Null"));
+                        continue;
+                    }
+
+                    // 항목 하나를 tree 로 먼저 읽어 토큰을 모두 소비한 뒤 변환한다.
+                    // 타입 오류는 그 항목만 실패로 처리하고, json 자체가 깨진 경우만 아래에서 중단한다.
+                    JsonNode node = objectMapper.readTree(parser);
+                    index++;
+                    UserRegisterRequest request;
+                    try {
+                        request = objectMapper.treeToValue(node, UserRegisterRequest.class);
+                    } catch (JsonMappingException e) {
+                        var email = node.path("email").isTextual() ? node.path("email").asText() : null;
+                        write(generator, failure(currentIndex, email, ErrorCode.BAD_REQUEST, e.getOriginalMessage()));
+                        continue;
+                    }
+                    var violations = validator.validate(request);
+                    if (!violations.isEmpty()) {
+                        var description = violations.stream()
+                                .map(it -> it.getPropertyPath() + " " + it.getMessage())
+                                .collect(Collectors.joining(", "));
+                        write(generator, failure(currentIndex, request.getEmail(), ErrorCode.BAD_REQUEST, description));
+                        continue;
+                    }
+
+                    chunk.add(new BulkItem(currentIndex, request));
+                    if (chunk.size() >= chunkSize) {
+                        writeAll(generator, registerChunk(chunk));
+                        chunk.clear();
+                    }
+                }
+            } catch (ApiException e) {
+                abort = failure(index, null, e.getErrorCodeInterface(), e.getErrorDescription());
+            } catch (JsonProcessingException e) {
+                // 요청 json 이 중간에 깨진 경우, 이후 토큰은 신뢰할 수 없으므로 더 읽지 않는다.
+                abort = failure(index, null, ErrorCode.BAD_REQUEST, e.getOriginalMessage());
+            }
+
+            // 오류 위치 이전까지 모인 항목은 저장
+            if (!chunk.isEmpty()) {
+                writeAll(generator, registerChunk(chunk));
+            }
+            if (abort != null) {
+                write(generator, abort);
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+
+    private List<UserBulkRegisterResponse> registerChunk(List<BulkItem> chunk) {
+        List<UserEntity> entityList;
+        try {
+            entityList = userConverter.toEntityList(chunk.stream()
+                    .map(BulkItem::request)
+                    .toList());
+        } catch (ApiException e) {
+            // 해시 대기열 초과 / 시간 초과, chunk 전체를 같은 사유로 실패 처리
+            log.warn("bulk register chunk hash fail. size : {}, cause : {}", chunk.size(), e.getErrorDescription());
+            return chunk.stream()
+                    .map(it -> failure(it.index(), it.request().getEmail(), e.getErrorCodeInterface(), e.getErrorDescription()))
+                    .collect(Collectors.toList());
+        }
+
+        try {
+            var savedList = userService.registerAll(entityList);
+
+            var results = new ArrayList<UserBulkRegisterResponse>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                var saved = savedList.get(i);
+                results.add(success(chunk.get(i).index(), saved.getId(), saved.getEmail()));
+            }
+            return results;
+
+        } catch (RuntimeException e) {
+            // chunk 전체가 롤백된 상태, 한 건씩 다시 저장해서 실패한 항목만 골라낸다. (해시는 다시 하지 않음)
+            log.warn("bulk register chunk fail, retry one by one. size : {}, cause : {}", chunk.size(), e.toString());
+            var results = new ArrayList<UserBulkRegisterResponse>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(registerOne(chunk.get(i), entityList.get(i)));
+            }
+            return results;
+        }
+    }
+
+    private UserBulkRegisterResponse registerOne(BulkItem item, UserEntity userEntity) {
+        var email = item.request().getEmail();
+        try {
+            // 롤백된 chunk 에서 받은 id 는 버리고 새로 INSERT
+            userEntity.setId(null);
+            var saved = userService.register(userEntity);
+            return success(item.index(), saved.getId(), saved.getEmail());
+
+        } catch (ApiException e) {
+            return failure(item.index(), email, e.getErrorCodeInterface(), e.getErrorDescription());
+        } catch (RuntimeException e) {
+            return failure(item.index(), email, ErrorCode.SERVER_ERROR, ErrorCode.SERVER_ERROR.getDescription());
+        }
+    }
+
+    // 응답을 쓰기 전이므로 형식 오류는 ApiException (400) 으로 던진다.
+    private void moveToBodyArray(JsonParser parser) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "요청은 { \"body\" : [...] } 형식이어야 합니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.getCurrentName();
+                var valueToken = parser.nextToken();
+                if ("body".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    return;
+                }
+                parser.skipChildren();
+            }
+        } catch (JsonProcessingException e) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, e.getOriginalMessage());
+        }
+        throw new ApiException(ErrorCode.BAD_REQUEST, "body 배열이 없습니다.");
+    }
+
+    private void writeAll(JsonGenerator generator, List<UserBulkRegisterResponse> results) throws IOException {
+        for (var result : results) {
+            write(generator, result);
+        }
+        // chunk 단위로 클라이언트에 흘려보낸다.
+        generator.flush();
+    }
+
+    private void write(JsonGenerator generator, UserBulkRegisterResponse result) throws IOException {
+        itemWriter.writeValue(generator, result);
+    }
+
+    private UserBulkRegisterResponse success(int index, Long id, String email) {
+        return UserBulkRegisterResponse.builder()
+                .index(index)
+                .id(id)
+                .email(email)
+                .resultCode(ErrorCode.OK.getErrorCode())
+                .resultDescription(ErrorCode.OK.getDescription())
+                .build();
+    }
+
+    private UserBulkRegisterResponse failure(int index, String email, ErrorCodeInterface errorCode, String description) {
+        return UserBulkRegisterResponse.builder()
+                .index(index)
+                .email(email)
+                .resultCode(errorCode.getErrorCode())
+                .resultDescription(description)
+                .build();
+    }
+
+    private record BulkItem(int index, UserRegisterRequest request) {
+    }
+}
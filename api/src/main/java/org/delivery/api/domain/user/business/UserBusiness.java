@@ -2,17 +2,22 @@ package org.delivery.api.domain.user.business;
 
 import lombok.RequiredArgsConstructor;
 import org.delivery.api.common.annotation.Business;
+import org.delivery.api.domain.token.business.TokenBusiness;
+import org.delivery.api.domain.token.controller.model.TokenResponse;
 import org.delivery.api.domain.user.controller.model.UserLoginRequest;
 import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
 import org.delivery.api.domain.user.controller.model.UserResponse;
 import org.delivery.api.domain.user.converter.UserConverter;
 import org.delivery.api.domain.user.service.UserService;
+import org.delivery.api.domain.user.throttle.LoginThrottle;
 
 @RequiredArgsConstructor
 @Business
 public class UserBusiness {
     private final UserService userService;
     private final UserConverter userConverter;
+    private final TokenBusiness tokenBusiness;
+    private final LoginThrottle loginThrottle;
 
     /**
      *
@@ -41,18 +46,32 @@ public class UserBusiness {
     /**
      *
      * @param request
-     * @return void
+     * @param clientIp 요청한 client ip
+     * @return TokenResponse
+     * 0. ip, email 별 시도 횟수 제한 (DB 조회 전)
      * 1. email, password 를 가지고 사용자 체크
      * 2. user entity 로그인 확인
      * 3. token 생성
      * 4. token response
      */
-    public UserResponse login(UserLoginRequest request) {
+    public TokenResponse login(UserLoginRequest request, String clientIp) {
+        loginThrottle.acquire(request.getEmail(), clientIp);
+
         var userEntity = userService.login(request.getEmail(), request.getPassword());
         //사용자 없으면 throw
 
-        //TODO 토큰 생성
+        var tokenResponse = tokenBusiness.issueToken(userEntity);
+
+        return tokenResponse;
+    }
 
-        return userConverter.toResponse(userEntity);
+    /**
+     *
+     * @param userId 인증 토큰에서 꺼낸 사용자 id
+     * @return UserResponse
+     */
+    public UserResponse me(Long userId) {
+        var userProfile = userService.getUserProfileWithThrow(userId);
+        return userConverter.toResponse(userProfile);
     }
 }
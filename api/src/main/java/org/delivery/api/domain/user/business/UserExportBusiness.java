@@ -0,0 +1,100 @@
+package org.delivery.api.domain.user.business;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.delivery.api.common.annotation.Business;
+import org.delivery.api.domain.user.controller.model.UserListResponse;
+import org.delivery.api.domain.user.converter.UserConverter;
+import org.delivery.api.domain.user.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 목록 조회 / 내보내기
+ */
+@Business
+public class UserExportBusiness {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserService userService;
+    private final UserConverter userConverter;
+    private final ObjectWriter lineWriter;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public UserExportBusiness(
+            UserService userService,
+            UserConverter userConverter,
+            ObjectMapper objectMapper,
+            @Value("${user.export.fetch-size:1000}") int fetchSize,
+            @Value("${user.export.flush-every:1000}") int flushEvery
+    ) {
+        this.userService = userService;
+        this.userConverter = userConverter;
+        // 한 줄에 UserResponse 하나 (NDJSON), flush 는 flushEvery 건마다 직접 한다.
+        this.lineWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * 1. lastId 보다 작은 id 를 size + 1 개 조회 (다음 페이지 존재 여부 확인용 1개)
+     * 2. size 개만 response 로 변환
+     * 3. 마지막 id 를 다음 커서로 반환
+     */
+    public UserListResponse list(Long lastId, int size) {
+        var pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        var userProfileList = userService.getUserList(lastId, pageSize + 1);
+
+        var hasNext = userProfileList.size() > pageSize;
+        var userList = userProfileList.stream()
+                .limit(pageSize)
+                .map(userConverter::toResponse)
+                .collect(Collectors.toList());
+
+        return UserListResponse.builder()
+                .userList(userList)
+                .nextLastId(hasNext ? userList.get(userList.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 전체 사용자를 NDJSON 으로 outputStream 에 쓴다.
+     * DB 커서에서 한 행씩 받아 바로 쓰므로 메모리 사용량은 사용자 수와 무관하다.
+     */
+    public void export(OutputStream outputStream) throws IOException {
+        try (var sequenceWriter = lineWriter.writeValues(outputStream)) {
+            var count = new int[]{0};
+
+            try {
+                userService.exportAll(fetchSize, userProfile -> {
+                    try {
+                        sequenceWriter.write(userConverter.toResponse(userProfile));
+                        if (++count[0] % flushEvery == 0) {
+                            sequenceWriter.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료 등
+                throw e.getCause();
+            }
+
+            // 값 사이에만 구분자가 들어가므로 마지막 줄바꿈은 직접 쓴다.
+            sequenceWriter.flush();
+            if (count[0] > 0) {
+                outputStream.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.delivery.api.domain.user.cache;
+
+import org.delivery.db.user.UserProfile;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 기본 2차 저장소 (아무것도 하지 않음)
+ */
+public class NoOpUserCacheSecondTier implements UserCacheSecondTier {
+
+    @Override
+    public Optional<UserProfile> get(Long userId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(UserProfile userProfile) {
+    }
+
+    @Override
+    public void evict(Long userId) {
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> invalidationListener) {
+    }
+}
@@ -0,0 +1,74 @@
+package org.delivery.api.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.delivery.db.user.UserProfile;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 가입(REGISTERED) 상태 사용자의 id 조회 캐시
+ *
+ * 1차 : 노드 로컬 Caffeine 캐시 (최대 개수 + 쓰기 후 TTL)
+ * 2차 : UserCacheSecondTier (노드 간 공유 / 무효화 전파)
+ *
+ * 엔티티가 아닌 불변 UserProfile 을 보관하므로 복사 없이 그대로 넣고 꺼낸다.
+ * hit / miss / eviction 은 cache.* 메트릭 (cache=user) 으로 노출된다.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, UserProfile> cache;
+    private final UserCacheSecondTier secondTier;
+
+    public UserCache(
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            @Value("${user.cache.ttl:PT5M}") Duration ttl,
+            ObjectProvider<UserCacheSecondTier> secondTierProvider,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.secondTier = secondTierProvider.getIfAvailable(NoOpUserCacheSecondTier::new);
+
+        // 다른 노드에서 발생한 변경은 로컬 캐시에서만 제거
+        this.secondTier.subscribe(cache::invalidate);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user");
+    }
+
+    public Optional<UserProfile> get(Long userId) {
+        var userProfile = cache.getIfPresent(userId);
+        if (userProfile != null) {
+            return Optional.of(userProfile);
+        }
+
+        return secondTier.get(userId)
+                .map(it -> {
+                    cache.put(userId, it);
+                    return it;
+                });
+    }
+
+    public void put(UserProfile userProfile) {
+        cache.put(userProfile.id(), userProfile);
+        secondTier.put(userProfile);
+    }
+
+    /**
+     * 가입, 상태 변경 등 사용자 정보가 바뀌었을 때 호출
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        secondTier.evict(userId);
+    }
+}
@@ -0,0 +1,23 @@
+package org.delivery.api.domain.user.cache;
+
+import org.delivery.db.user.UserProfile;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * UserCache 의 2차 저장소 (여러 노드가 공유하는 캐시 / 무효화 채널)
+ *
+ * 구현체를 빈으로 등록하면 UserCache 가 사용하고, 없으면 NoOpUserCacheSecondTier 로 동작한다.
+ * evict 는 다른 노드에도 전파되어야 하며, 다른 노드에서 발생한 무효화는 subscribe 로 받은 listener 로 알려준다.
+ */
+public interface UserCacheSecondTier {
+
+    Optional<UserProfile> get(Long userId);
+
+    void put(UserProfile userProfile);
+
+    void evict(Long userId);
+
+    void subscribe(Consumer<Long> invalidationListener);
+}
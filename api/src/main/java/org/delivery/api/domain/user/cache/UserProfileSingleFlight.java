@@ -0,0 +1,24 @@
+package org.delivery.api.domain.user.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.delivery.api.common.concurrent.SingleFlight;
+import org.delivery.db.user.UserProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * UserCache miss 시 같은 사용자 id 의 동시 조회를 한 번의 DB 조회로 합친다.
+ * (같은 토큰으로 여러 기기에서 동시에 요청하는 경우)
+ */
+@Component
+public class UserProfileSingleFlight extends SingleFlight<Long, UserProfile> {
+
+    public UserProfileSingleFlight(
+            @Value("${user.cache.single-flight-timeout:PT2S}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        super("user.profile", timeout, meterRegistry);
+    }
+}
@@ -1,13 +1,72 @@
 package org.delivery.api.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.api.Api;
+import org.delivery.api.domain.user.business.UserBulkRegisterBusiness;
 import org.delivery.api.domain.user.business.UserBusiness;
+import org.delivery.api.domain.user.business.UserExportBusiness;
+import org.delivery.api.domain.user.controller.model.UserListResponse;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.api.interceptor.AuthorizationInterceptor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/user")
 public class UserApiController {
     private final UserBusiness userBusiness;
+    private final UserExportBusiness userExportBusiness;
+    private final UserBulkRegisterBusiness userBulkRegisterBusiness;
+
+    // 내 정보 조회 (userId 는 AuthorizationInterceptor 가 토큰에서 꺼내 둔 값)
+    @GetMapping("/me")
+    public Api<UserResponse> me(){
+        var requestContext = Objects.requireNonNull(RequestContextHolder.getRequestAttributes());
+        var userId = requestContext.getAttribute(AuthorizationInterceptor.USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        var response = userBusiness.me(Long.parseLong(userId.toString()));
+        return Api.OK(response);
+    }
+
+    // 사용자 목록 (id 내림차순 keyset pagination), 다음 페이지는 응답의 next_last_id 를 last_id 로 전달
+    @GetMapping("/list")
+    public Api<UserListResponse> list(
+            @RequestParam(name = "last_id", required = false) Long lastId,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ){
+        var response = userExportBusiness.list(lastId, size);
+        return Api.OK(response);
+    }
+
+    // 일괄 가입 (파트너 이관 등), 요청/응답 모두 스트리밍으로 처리 (항목별 결과를 응답 body 배열로 반환)
+    @PostMapping(value = "/register/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void registerBulk(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        userBulkRegisterBusiness.register(request.getInputStream(), response.getOutputStream());
+    }
+
+    // 전체 사용자 내보내기 (NDJSON 스트리밍)
+    @GetMapping("/export")
+    public void export(
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        userExportBusiness.export(response.getOutputStream());
+    }
 }
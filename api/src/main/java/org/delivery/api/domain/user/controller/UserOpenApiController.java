@@ -2,6 +2,7 @@ package org.delivery.api.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.delivery.api.common.api.Api;
+import org.delivery.api.domain.token.controller.model.TokenResponse;
 import org.delivery.api.domain.user.business.UserBusiness;
 import org.delivery.api.domain.user.controller.model.UserLoginRequest;
 import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 @RequiredArgsConstructor
@@ -31,12 +33,13 @@ public class UserOpenApiController {
 
     // 로그인
     @PostMapping("/login")
-    public Api<UserResponse> login(
+    public Api<TokenResponse> login(
             @Valid
             @RequestBody
-            Api<UserLoginRequest> request
+            Api<UserLoginRequest> request,
+            HttpServletRequest httpServletRequest
     ){
-        var response = userBusiness.login(request.getBody());
+        var response = userBusiness.login(request.getBody(), httpServletRequest.getRemoteAddr());
         return Api.OK(response);
     }
 }
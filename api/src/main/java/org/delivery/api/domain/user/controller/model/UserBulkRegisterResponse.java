@@ -0,0 +1,27 @@
+package org.delivery.api.domain.user.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 가입 요청의 항목별 처리 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBulkRegisterResponse {
+    // 요청 배열에서의 위치 (0부터)
+    private Integer index;
+
+    // 가입에 성공한 경우의 사용자 id
+    private Long id;
+
+    private String email;
+
+    private Integer resultCode;
+
+    private String resultDescription;
+}
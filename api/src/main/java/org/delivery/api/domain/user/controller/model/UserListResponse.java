@@ -0,0 +1,24 @@
+package org.delivery.api.domain.user.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 (keyset pagination)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserListResponse {
+    private List<UserResponse> userList;
+
+    // 다음 페이지 요청 시 last_id 로 전달할 값, 마지막 페이지면 null
+    private Long nextLastId;
+
+    private Boolean hasNext;
+}
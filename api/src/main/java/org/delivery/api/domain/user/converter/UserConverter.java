@@ -6,24 +6,30 @@ import org.delivery.api.common.error.ErrorCode;
 import org.delivery.api.common.exception.ApiException;
 import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
 import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.api.domain.user.password.PasswordHasher;
 import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserProfile;
 import org.delivery.db.user.UserRepository;
 
 import java.nio.file.OpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Converter
 public class UserConverter {
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
 
+    // 비밀번호는 bcrypt 해시로 변환해서 저장
     public UserEntity toEntity(UserRegisterRequest request) {
         return Optional.ofNullable(request)
                 .map(it -> {
                     return UserEntity.builder()
                             .name(request.getName())
                             .email(request.getEmail())
-                            .password(request.getPassword())
+                            .password(passwordHasher.hash(request.getPassword()))
                             .address(request.getAddress())
                             .build()
                             ;
@@ -31,6 +37,26 @@ public class UserConverter {
                 .orElseThrow(() -> new ApiException(ErrorCode.NULL_POINT, "UserRegisterRequest Null"));
     }
 
+    // 일괄 가입용, chunk 의 비밀번호를 bulk 풀에서 병렬로 해시 (입력 순서 유지)
+    public List<UserEntity> toEntityList(List<UserRegisterRequest> requestList) {
+        var hashList = passwordHasher.hashAll(requestList.stream()
+                .map(UserRegisterRequest::getPassword)
+                .toList());
+
+        var entityList = new ArrayList<UserEntity>(requestList.size());
+        for (int i = 0; i < requestList.size(); i++) {
+            var request = requestList.get(i);
+            entityList.add(UserEntity.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .password(hashList.get(i))
+                    .address(request.getAddress())
+                    .build()
+            );
+        }
+        return entityList;
+    }
+
     public UserResponse toResponse(UserEntity userEntity) {
         return Optional.ofNullable(userEntity)
                 .map(it -> {
@@ -48,4 +74,23 @@ public class UserConverter {
                 })
                 .orElseThrow(() -> new ApiException(ErrorCode.NULL_POINT, "UserEntity Null"));
     }
+
+    // 조회 전용 projection -> response
+    public UserResponse toResponse(UserProfile userProfile) {
+        return Optional.ofNullable(userProfile)
+                .map(it -> {
+                    return UserResponse.builder()
+                            .id(userProfile.id())
+                            .name(userProfile.name())
+                            .status(userProfile.status())
+                            .email(userProfile.email())
+                            .address(userProfile.address())
+                            .registeredAt(userProfile.registeredAt())
+                            .unregisteredAt(userProfile.unregisteredAt())
+                            .lastLoginAt(userProfile.lastLoginAt())
+                            .build()
+                            ;
+                })
+                .orElseThrow(() -> new ApiException(ErrorCode.NULL_POINT, "UserProfile Null"));
+    }
 }
@@ -0,0 +1,94 @@
+package org.delivery.api.domain.user.email;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 Bloom filter (lock-free)
+ *
+ * mightContain 이 false 면 넣은 적이 없는 값이 확실하고, true 면 fpp 확률로 오탐일 수 있다.
+ * 비트는 AtomicLongArray 에 OR 로만 켜므로 put / mightContain 을 여러 스레드에서 락 없이 호출할 수 있다.
+ * 해시는 문자열의 char 를 바로 읽어 계산하므로 조회할 때 할당이 없다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashCount, long expectedInsertions) {
+        this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = hashCount;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * @param expectedInsertions 예상 개수, 넘어서면 오탐률이 fpp 보다 높아진다.
+     * @param fpp                목표 오탐률 (0 ~ 1)
+     */
+    static BloomFilter create(long expectedInsertions, double fpp) {
+        var n = Math.max(expectedInsertions, 1);
+        var bitSize = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        var hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount, n);
+    }
+
+    void put(String value) {
+        var hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        var hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1L; // 홀수로 만들어 인덱스가 한쪽으로 몰리지 않도록
+
+        for (int i = 0; i < hashCount; i++) {
+            var index = Math.floorMod(hash1 + i * hash2, bitSize);
+            var mask = 1L << index;
+            var word = (int) (index >>> 6);
+            var current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String value) {
+        var hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        var hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            var index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long getInsertions() {
+        return insertions.sum();
+    }
+
+    long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    long getBitSize() {
+        return bitSize;
+    }
+
+    // FNV-1a 후 murmur3 finalizer 로 섞는다.
+    private static long hash(String value, long seed) {
+        var hash = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
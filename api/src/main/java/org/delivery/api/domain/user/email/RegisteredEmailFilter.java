@@ -0,0 +1,160 @@
+package org.delivery.api.domain.user.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.config.datasource.DataSourceRoutingContext;
+import org.delivery.db.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 가입된 email 의 Bloom filter, 가입 시 중복 확인 쿼리를 대부분 생략하기 위함
+ *
+ * 애플리케이션 시작 후 user 테이블의 email 을 커서로 읽어 채우고, 가입에 성공할 때마다 추가한다.
+ * 다 채워지기 전에는 항상 인덱스 조회로 확인한다.
+ * 가입 수가 예상 개수를 넘으면 2배 크기로 백그라운드에서 다시 만든다. (그동안의 가입은 기존/새 filter 양쪽에 추가)
+ *
+ * MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 바꿔서 넣고 확인한다.
+ * 조회 결과는 user.email.filter.lookup (result=negative|positive|false_positive) 로 노출된다.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final double fpp;
+    private final int fetchSize;
+    private final ExecutorService builder;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    private volatile boolean ready;
+
+    private final Counter negative;
+    private final Counter positive;
+    private final Counter falsePositive;
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.fpp:0.01}") double fpp,
+            @Value("${user.email-filter.fetch-size:1000}") int fetchSize
+    ) {
+        this.userRepository = userRepository;
+        this.fpp = fpp;
+        this.fetchSize = fetchSize;
+        this.filter = BloomFilter.create(expectedInsertions, fpp);
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "email-filter-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.negative = lookupCounter(meterRegistry, "negative");
+        this.positive = lookupCounter(meterRegistry, "positive");
+        this.falsePositive = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("user.email.filter.ready", () -> ready ? 1 : 0).register(meterRegistry);
+        Gauge.builder("user.email.filter.insertions", () -> filter.getInsertions()).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        builder.execute(() -> {
+            var startNanos = System.nanoTime();
+            try {
+                fill(filter);
+                ready = true;
+                log.info("registered email filter ready. emails : {} , bits : {} , elapsed : {}ms",
+                        filter.getInsertions(), filter.getBitSize(), (System.nanoTime() - startNanos) / 1_000_000);
+            } catch (RuntimeException e) {
+                // 채우지 못하면 계속 인덱스 조회로만 확인한다.
+                log.error("registered email filter build fail", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * filter 가 없다고 하면 조회 없이 false, 있을 수도 있다고 하면 indexLookup 결과
+     */
+    public boolean exists(String email, Predicate<String> indexLookup) {
+        var current = filter;
+        if (ready && !current.mightContain(normalize(email))) {
+            negative.increment();
+            return false;
+        }
+
+        var exists = indexLookup.test(email);
+        if (ready) {
+            (exists ? positive : falsePositive).increment();
+        }
+        return exists;
+    }
+
+    /**
+     * 가입에 성공한 email 추가
+     */
+    public void put(String email) {
+        var key = normalize(email);
+        var current = filter;
+        current.put(key);
+
+        var next = building;
+        if (next != null) {
+            next.put(key);
+        }
+
+        if (ready && current.getInsertions() > current.getExpectedInsertions() && rebuilding.compareAndSet(false, true)) {
+            builder.execute(() -> rebuild(current.getExpectedInsertions() * 2));
+        }
+    }
+
+    private void rebuild(long expectedInsertions) {
+        try {
+            log.info("registered email filter rebuild. expected insertions : {}", expectedInsertions);
+            var next = BloomFilter.create(expectedInsertions, fpp);
+            building = next;
+            fill(next);
+            filter = next;
+        } catch (RuntimeException e) {
+            log.error("registered email filter rebuild fail", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    // 내보내기와 같은 커서 조회로 replica 에서 읽는다. (복제 지연으로 빠진 email 은 unique 제약 예외로 처리됨)
+    private void fill(BloomFilter target) {
+        DataSourceRoutingContext.runOnReplica(() ->
+                userRepository.streamEmails(fetchSize, email -> target.put(normalize(email)))
+        );
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.email.filter.lookup")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package org.delivery.api.domain.user.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.db.outbox.OutboxEventEntity;
+import org.delivery.db.outbox.OutboxEventRepository;
+import org.delivery.db.user.UserEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 이벤트를 outbox_event 에 기록
+ *
+ * 호출한 쪽의 트랜잭션에 참여하므로 사용자 저장과 함께 커밋 / 롤백된다. 실제 발행은 OutboxRelay 가 비동기로 처리한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserEventOutbox {
+
+    public static final String AGGREGATE_TYPE = "USER";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(UserEventType eventType, UserEntity userEntity) {
+        outboxEventRepository.save(toOutboxEvent(eventType, userEntity, LocalDateTime.now()));
+    }
+
+    // id 를 미리 생성하므로 hibernate.jdbc.batch_size 단위로 INSERT 가 묶인다.
+    public void appendAll(UserEventType eventType, List<UserEntity> userEntityList) {
+        var now = LocalDateTime.now();
+        var outboxEventList = userEntityList.stream()
+                .map(it -> toOutboxEvent(eventType, it, now))
+                .toList();
+        outboxEventRepository.saveAll(outboxEventList);
+    }
+
+    private OutboxEventEntity toOutboxEvent(UserEventType eventType, UserEntity userEntity, LocalDateTime now) {
+        var event = new UserLifecycleEvent(
+                userEntity.getId(),
+                userEntity.getEmail(),
+                userEntity.getStatus(),
+                now
+        );
+
+        return OutboxEventEntity.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(userEntity.getId())
+                .eventType(eventType.name())
+                .payload(toJson(event))
+                .createdAt(now)
+                .build();
+    }
+
+    private String toJson(UserLifecycleEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(ErrorCode.SERVER_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.delivery.api.domain.user.event;
+
+/**
+ * outbox 로 발행하는 사용자 이벤트 종류
+ */
+public enum UserEventType {
+    REGISTERED,
+    ;
+}
@@ -0,0 +1,16 @@
+package org.delivery.api.domain.user.event;
+
+import org.delivery.db.user.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 이벤트 payload (outbox_event.payload 에 json 으로 저장)
+ */
+public record UserLifecycleEvent(
+        Long userId,
+        String email,
+        UserStatus status,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,144 @@
+package org.delivery.api.domain.user.lastlogin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.domain.user.cache.UserCache;
+import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 마지막 로그인 시각 write-behind
+ *
+ * 로그인 요청은 메모리에 사용자별 최신 시각만 남기고 바로 돌아간다. (같은 사용자의 반복 로그인은 하나로 합쳐짐)
+ * flush-interval 마다 모아 둔 값을 JDBC batch UPDATE 로 반영하므로 DB 의 last_login_at 은 최대 flush-interval 만큼 늦다.
+ * 보관 개수가 max-pending 에 도달하면 바로 flush 를 요청하고, 그 사이 새 사용자의 기록은 버린다. (dropped 카운트)
+ * 종료 시 남은 값을 모두 반영한다.
+ */
+@Slf4j
+@Component
+public class LastLoginWriteBehind {
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter flushed;
+    private final Counter dropped;
+
+    public LastLoginWriteBehind(
+            UserRepository userRepository,
+            UserCache userCache,
+            EntityManagerFactory entityManagerFactory,
+            MeterRegistry meterRegistry,
+            @Value("${user.last-login.flush-interval:PT5S}") Duration flushInterval,
+            @Value("${user.last-login.max-pending:100000}") int maxPending,
+            @Value("${user.last-login.batch-size:500}") int batchSize
+    ) {
+        this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+
+        this.flushed = Counter.builder("user.last_login.flushed").register(meterRegistry);
+        this.dropped = Counter.builder("user.last_login.dropped").register(meterRegistry);
+        Gauge.builder("user.last_login.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 로그인 요청 스레드에서 호출, DB 접근 없음
+     */
+    public void record(Long userId, LocalDateTime lastLoginAt) {
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            dropped.increment();
+            requestFlush();
+            return;
+        }
+        pending.merge(userId, lastLoginAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("last login flush fail", e);
+        }
+    }
+
+    // key 별로 remove 해서 꺼내므로, 꺼낸 뒤 들어온 로그인은 다음 flush 에 반영된다.
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        var drained = new HashMap<Long, LocalDateTime>(pending.size());
+        for (var userId : pending.keySet()) {
+            var lastLoginAt = pending.remove(userId);
+            if (lastLoginAt != null) {
+                drained.put(userId, lastLoginAt);
+            }
+        }
+
+        try {
+            userRepository.updateLastLoginAt(drained, batchSize);
+        } catch (RuntimeException e) {
+            // 실패한 값은 다시 넣어 다음 flush 에서 재시도 (그 사이 더 최근 로그인이 있으면 그 값을 유지)
+            drained.forEach((userId, lastLoginAt) ->
+                    pending.merge(userId, lastLoginAt, (current, previous) -> current.isAfter(previous) ? current : previous));
+            throw e;
+        }
+
+        // 캐시된 사용자 정보의 lastLoginAt 이 오래된 값이 되지 않도록 제거
+        // JDBC 로 직접 갱신했으므로 hibernate 2차 캐시도 함께 제거해야 한다.
+        var secondLevelCache = entityManagerFactory.getCache();
+        drained.keySet().forEach(userId -> {
+            userCache.evict(userId);
+            secondLevelCache.evict(UserEntity.class, userId);
+        });
+        flushed.increment(drained.size());
+    }
+}
@@ -0,0 +1,47 @@
+package org.delivery.api.domain.user.password;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 설정 (application.yaml 의 user.password.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.password")
+public class PasswordHashProperties {
+
+    /**
+     * bcrypt cost (4 ~ 31), 1 올릴 때마다 해시 시간이 2배
+     * 값을 올리면 기존 사용자는 다음 로그인 때 새 cost 로 다시 해시된다.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해시 전용 스레드 수, 요청 스레드 대신 이 스레드들만 CPU 를 쓴다.
+     */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 대기열 크기, 가득 차면 기다리지 않고 SERVER_BUSY (503) 로 거절
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * 요청 스레드가 해시 결과를 기다리는 최대 시간
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * 일괄 가입 전용 스레드 수, 로그인 풀과 나누어 일괄 가입이 로그인을 SERVER_BUSY 로 만들지 않도록 한다.
+     */
+    private int bulkPoolSize = 2;
+
+    /**
+     * 일괄 가입 대기열 크기, user.bulk-register.chunk-size 이상이어야 chunk 하나를 한 번에 넣을 수 있다.
+     */
+    private int bulkQueueCapacity = 1000;
+}
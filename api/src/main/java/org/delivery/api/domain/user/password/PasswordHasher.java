@@ -0,0 +1,182 @@
+package org.delivery.api.domain.user.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * bcrypt 비밀번호 해시 / 검증
+ *
+ * bcrypt 는 일부러 CPU 를 많이 쓰므로 전용 스레드 풀 (고정 크기 + 제한된 대기열) 에서만 계산한다.
+ * 로그인이 몰려도 CPU 를 쓰는 스레드는 pool-size 개뿐이고, 대기열이 가득 차면 바로 SERVER_BUSY 로 거절해
+ * Tomcat 요청 스레드가 해시 계산에 묶이지 않도록 한다.
+ * 일괄 가입은 별도의 bulk 풀에서 chunk 단위로 병렬 해시하므로 로그인 풀을 차지하지 않는다.
+ * 풀 상태는 executor.* 메트릭 (name=password-hasher, password-hasher-bulk) 으로 노출된다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    // $2a$10$... 형식이 아니면 해시 이전에 저장된 평문 비밀번호
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    // 설정된 cost 로 만든 임의의 해시, 없는 사용자의 로그인도 같은 시간 동안 비교하도록 사용
+    private final String dummyHash;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final int bulkPoolSize;
+    private final long timeoutMillis;
+
+    public PasswordHasher(PasswordHashProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.bulkPoolSize = properties.getBulkPoolSize();
+
+        this.executor = newExecutor("password-hasher", properties.getPoolSize(), properties.getQueueCapacity());
+        this.bulkExecutor = newExecutor("password-hasher-bulk", properties.getBulkPoolSize(), properties.getBulkQueueCapacity());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hasher");
+        ExecutorServiceMetrics.monitor(meterRegistry, bulkExecutor, "password-hasher-bulk");
+    }
+
+    private static ThreadPoolExecutor newExecutor(String name, int poolSize, int queueCapacity) {
+        var threadNumber = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+
+    public String hash(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 일괄 가입용, bulk 풀에 모두 넣고 병렬로 해시한 결과를 입력 순서대로 반환
+     * 풀 크기만큼씩 나누어 계산되므로 기다리는 시간도 timeout * (건수 / bulk-pool-size) 까지 늘린다.
+     * 하나라도 실패하면 나머지는 취소하고 예외 (대기열 초과 / 시간 초과는 SERVER_BUSY)
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        var rounds = (rawPasswords.size() + bulkPoolSize - 1) / bulkPoolSize;
+        var deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis * Math.max(rounds, 1));
+
+        var futures = new ArrayList<Future<String>>(rawPasswords.size());
+        try {
+            for (var rawPassword : rawPasswords) {
+                futures.add(submit(bulkExecutor, () -> passwordEncoder.encode(rawPassword)));
+            }
+
+            var hashes = new ArrayList<String>(futures.size());
+            for (var future : futures) {
+                hashes.add(await(future, deadlineNanos - System.nanoTime()));
+            }
+            return hashes;
+        } finally {
+            // 정상 완료된 경우에는 아무 일도 하지 않는다.
+            futures.forEach(it -> it.cancel(true));
+        }
+    }
+
+    /**
+     * 해시 이전의 평문 비밀번호도 비교한다. (다음 로그인 때 needsRehash 로 해시로 바뀜)
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+
+        if (isLegacyPlainText(storedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return execute(() -> passwordEncoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * 없는 email 로 로그인한 경우 호출, 실제 비교와 같은 cost 의 bcrypt 를 계산하고 항상 false
+     * 응답 시간으로 가입 여부를 알아낼 수 없도록 한다.
+     */
+    public boolean matchesDummy(String rawPassword) {
+        matches(rawPassword, dummyHash);
+        return false;
+    }
+
+    /**
+     * 평문이거나 설정된 cost 보다 낮은 cost 로 만든 해시인 경우 true
+     */
+    public boolean needsRehash(String storedPassword) {
+        return isLegacyPlainText(storedPassword) || passwordEncoder.upgradeEncoding(storedPassword);
+    }
+
+    private boolean isLegacyPlainText(String storedPassword) {
+        return !BCRYPT_PATTERN.matcher(storedPassword).matches();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        return await(submit(executor, task), TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    private <T> T await(Future<T> future, long timeoutNanos) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ApiException(ErrorCode.SERVER_BUSY, "비밀번호 처리 대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ApiException(ErrorCode.SERVER_BUSY, e);
+        } catch (ExecutionException e) {
+            throw new ApiException(ErrorCode.SERVER_ERROR, e.getCause());
+        }
+    }
+
+    private static <T> Future<T> submit(ThreadPoolExecutor executor, Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ApiException(ErrorCode.SERVER_BUSY, "비밀번호 처리 대기열 초과");
+        }
+    }
+}
@@ -1,54 +1,274 @@
 package org.delivery.api.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.delivery.api.common.error.ErrorCode;
 import org.delivery.api.common.error.UserErrorCode;
 import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.config.datasource.DataSourceRoutingContext;
+import org.delivery.api.config.datasource.ReadYourWritesTracker;
+import org.delivery.api.config.resilience.Guarded;
+import org.delivery.api.config.resilience.GuardedOperations;
+import org.delivery.api.domain.user.cache.UserCache;
+import org.delivery.api.domain.user.cache.UserProfileSingleFlight;
+import org.delivery.api.domain.user.email.RegisteredEmailFilter;
+import org.delivery.api.domain.user.event.UserEventOutbox;
+import org.delivery.api.domain.user.event.UserEventType;
+import org.delivery.api.domain.user.lastlogin.LastLoginWriteBehind;
+import org.delivery.api.domain.user.password.PasswordHasher;
 import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserProfile;
 import org.delivery.db.user.UserRepository;
 import org.delivery.db.user.enums.UserStatus;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * user 도메인 로직을 처리하는 서비스
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UserProfileSingleFlight userProfileSingleFlight;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final PasswordHasher passwordHasher;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+    private final UserEventOutbox userEventOutbox;
+    private final GuardedOperations guardedOperations;
+    private final EntityManagerFactory entityManagerFactory;
 
 
-
+    /**
+     * 사용자 저장과 REGISTERED 이벤트(outbox) 기록을 하나의 트랜잭션으로 처리
+     */
+    @Guarded("user-register")
+    @Transactional
     public UserEntity register(UserEntity userEntity){
         return Optional.ofNullable(userEntity)
                 .map(it -> {
+                    checkEmailNotRegistered(userEntity.getEmail());
                     userEntity.setStatus(UserStatus.REGISTERED);
                     userEntity.setRegisteredAt(LocalDateTime.now());
 
-                    return userRepository.save(userEntity);
+                    UserEntity newEntity;
+                    try {
+                        // 트랜잭션 안에서는 INSERT 가 커밋 시점으로 미뤄지므로 flush 해서 unique 위반을 여기서 확인
+                        newEntity = userRepository.saveAndFlush(userEntity);
+                    } catch (DataIntegrityViolationException e) {
+                        // 동시에 같은 email 로 가입한 경우 (확인과 저장 사이) unique 제약으로 거절된다.
+                        throw new ApiException(UserErrorCode.USER_ALREADY_EXISTS, e);
+                    }
+                    userEventOutbox.append(UserEventType.REGISTERED, newEntity);
+                    registeredEmailFilter.put(newEntity.getEmail());
+                    afterCommit(() -> invalidate(newEntity));
+                    return newEntity;
                 })
                 .orElseThrow(() -> new ApiException(ErrorCode.NULL_POINT, "User Entity Null"))
                 ;
     }
 
+    /**
+     * 여러 사용자를 하나의 트랜잭션으로 저장
+     * id 를 애플리케이션에서 미리 생성하므로 INSERT 는 커밋 시점에 hibernate.jdbc.batch_size 단위로 묶여서 전송된다.
+     * 이미 가입된 email 이 하나라도 있으면 USER_ALREADY_EXISTS (호출하는 쪽에서 한 건씩 다시 처리)
+     */
+    @Guarded("user-register-all")
+    @Transactional
+    public List<UserEntity> registerAll(List<UserEntity> userEntityList){
+        var now = LocalDateTime.now();
+        userEntityList.forEach(it -> {
+            checkEmailNotRegistered(it.getEmail());
+            it.setStatus(UserStatus.REGISTERED);
+            it.setRegisteredAt(now);
+        });
+        var newEntityList = userRepository.saveAll(userEntityList);
+        userEventOutbox.appendAll(UserEventType.REGISTERED, newEntityList);
+        newEntityList.forEach(it -> {
+            // 커밋 전에 추가되지만, 롤백되어도 filter 는 오탐만 늘 뿐 잘못 거절하지는 않는다.
+            registeredEmailFilter.put(it.getEmail());
+        });
+        afterCommit(() -> newEntityList.forEach(this::invalidate));
+        return newEntityList;
+    }
+
+    // 대부분의 신규 email 은 Bloom filter 에서 바로 걸러지고, 있을 수도 있다고 하는 경우만 인덱스로 조회
+    private void checkEmailNotRegistered(String email){
+        if (registeredEmailFilter.exists(email, userRepository::existsByEmail)) {
+            throw new ApiException(UserErrorCode.USER_ALREADY_EXISTS);
+        }
+    }
+
+    /**
+     * email 로만 조회하고 비밀번호는 bcrypt 로 확인
+     * 없는 email 도 같은 cost 의 bcrypt 를 한 번 계산한 뒤 USER_NOT_FOUND (응답 시간으로 가입 여부를 알 수 없도록)
+     * 평문으로 저장되어 있거나 cost 설정이 바뀐 경우 이번 로그인에서 새 해시로 바꿔 저장한다.
+     * 마지막 로그인 시각은 write-behind 로 모아서 반영 (로그인마다 UPDATE 하지 않음)
+     * bcrypt 는 DB 커넥션을 쓰지 않으므로 user-login bulkhead / circuit breaker 는 조회와 해시 갱신 저장만 감싼다.
+     */
     public UserEntity login(
             String email,
             String password
     ){
-        var entity = getUserWithThrow(email, password);
+        // replica 로 조회하되, 방금 가입한 사용자라면 primary 에서 조회
+        var found = guardedOperations.execute("user-login", () ->
+                readYourWritesTracker.read(emailKey(email), () -> userRepository.findFirstByEmailAndStatusOrderByIdDesc(
+                        email,
+                        UserStatus.REGISTERED
+                ))
+        );
+
+        if (found.isEmpty()) {
+            passwordHasher.matchesDummy(password);
+            throw new ApiException(UserErrorCode.USER_NOT_FOUND);
+        }
+
+        var entity = found.get();
+        if (!passwordHasher.matches(password, entity.getPassword())) {
+            throw new ApiException(UserErrorCode.USER_NOT_FOUND);
+        }
+
+        if (passwordHasher.needsRehash(entity.getPassword())) {
+            rehashPassword(entity, password);
+        }
+
+        var now = LocalDateTime.now();
+        lastLoginWriteBehind.record(entity.getId(), now);
+        entity.setLastLoginAt(now);
         return entity;
     }
+
     public UserEntity getUserWithThrow(
-            String email,
-            String password
+            String email
     ){
-        return userRepository.findFirstByEmailAndPasswordAndStatusOrderByIdDesc(
+        return userRepository.findFirstByEmailAndStatusOrderByIdDesc(
                 email,
-                password,
                 UserStatus.REGISTERED
         ).orElseThrow(() -> new ApiException(UserErrorCode.USER_NOT_FOUND));
     }
+
+    // 해시 갱신에 실패해도 (풀 포화 등) 로그인은 계속 진행하고 다음 로그인 때 다시 시도
+    // 조회한 entity 는 replica 에서 읽은 이전 값일 수 있으므로 merge 하지 않고 password 컬럼만 compare-and-swap 으로 갱신
+    // JDBC 로 직접 갱신하므로 UserCache 와 hibernate 2차 캐시를 모두 비운다.
+    private void rehashPassword(UserEntity userEntity, String password){
+        try {
+            var oldPassword = userEntity.getPassword();
+            var newPassword = passwordHasher.hash(password);
+            var updated = guardedOperations.execute("user-login", () ->
+                    userRepository.updatePassword(userEntity.getId(), oldPassword, newPassword)
+            );
+            if (!updated) {
+                // 그 사이 다른 로그인이 먼저 바꿨거나 비밀번호가 변경된 경우
+                log.info("password rehash skipped user id : {} , reason : password changed", userEntity.getId());
+                return;
+            }
+            userEntity.setPassword(newPassword);
+            afterCommit(() -> {
+                invalidate(userEntity);
+                entityManagerFactory.getCache().evict(UserEntity.class, userEntity.getId());
+            });
+        } catch (ApiException e) {
+            log.warn("password rehash skipped user id : {} , reason : {}", userEntity.getId(), e.getErrorDescription());
+        }
+    }
+
+    // 캐시를 먼저 확인하고, 없으면 조회 후 캐시에 저장
+    // 응답에 필요한 컬럼만 projection 으로 조회 (엔티티 생성 / dirty checking 없음)
+    // 같은 id 의 동시 miss 는 single-flight 로 한 번만 조회하고 결과 / 예외를 함께 받는다.
+    public UserProfile getUserProfileWithThrow(
+            Long userId
+    ){
+        return userCache.get(userId)
+                .orElseGet(() -> readYourWritesTracker.read(idKey(userId), () -> {
+                    // 쓰기 직후 primary 로 조회해야 하는 요청은 replica 조회 결과를 공유받지 않도록 따로 조회
+                    if (DataSourceRoutingContext.isPrimaryForced()) {
+                        return loadUserProfile(userId);
+                    }
+                    return userProfileSingleFlight.execute(userId, () -> loadUserProfile(userId));
+                }));
+    }
+
+    // 캐시 hit 은 DB 를 쓰지 않으므로 조회 부분만 bulkhead / circuit breaker 로 감싼다.
+    private UserProfile loadUserProfile(Long userId){
+        var userProfile = guardedOperations.execute("user-read", () ->
+                userRepository.findProfileByIdAndStatus(
+                        userId,
+                        UserStatus.REGISTERED
+                )
+        ).orElseThrow(() -> new ApiException(UserErrorCode.USER_NOT_FOUND));
+
+        userCache.put(userProfile);
+        return userProfile;
+    }
+
+    /**
+     * id 내림차순 keyset pagination
+     * lastId 보다 작은 id 를 size 개 조회 (lastId 가 null 이면 처음부터)
+     */
+    @Guarded("user-read")
+    public List<UserProfile> getUserList(
+            Long lastId,
+            int size
+    ){
+        var cursor = Optional.ofNullable(lastId).orElse(Long.MAX_VALUE);
+        return userRepository.findProfilesByIdLessThanOrderByIdDesc(cursor, PageRequest.of(0, size));
+    }
+
+    /**
+     * 전체 사용자를 한 명씩 consumer 에 전달 (트랜잭션 없이 replica 커서로 조회)
+     */
+    @Guarded("user-export")
+    public void exportAll(
+            int fetchSize,
+            Consumer<UserProfile> consumer
+    ){
+        DataSourceRoutingContext.runOnReplica(() -> userRepository.streamAll(fetchSize, consumer));
+    }
+
+    // 커밋 전에 비우면 그 사이의 조회가 커밋 전 값을 다시 캐시에 올릴 수 있으므로 커밋 후에 실행
+    // 트랜잭션 밖에서 호출되면 (save 가 이미 커밋됨) 바로 실행
+    private static void afterCommit(Runnable action){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void invalidate(UserEntity userEntity){
+        userCache.evict(userEntity.getId());
+        recordWrite(userEntity);
+    }
+
+    // 쓰기 직후 replica 복제 지연 동안은 같은 사용자 조회를 primary 로 보낸다.
+    private void recordWrite(UserEntity userEntity){
+        readYourWritesTracker.recordWrite(idKey(userEntity.getId()));
+        readYourWritesTracker.recordWrite(emailKey(userEntity.getEmail()));
+    }
+
+    private static String idKey(Long userId){
+        return "user:id:" + userId;
+    }
+
+    private static String emailKey(String email){
+        return "user:email:" + email;
+    }
 }
@@ -0,0 +1,56 @@
+package org.delivery.api.domain.user.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.delivery.api.common.error.UserErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (client ip 별 + email 별)
+ *
+ * UserService 조회 전에 호출해서, 무차별 대입 요청이 DB 까지 내려가지 않도록 한다.
+ * 거절 건수는 user.login.throttled (key=ip|email), bucket 개수는 user.login.throttle.keys 로 노출된다.
+ */
+@Component
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final TokenBuckets ipBuckets;
+    private final TokenBuckets emailBuckets;
+    private final Counter ipRejected;
+    private final Counter emailRejected;
+
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.ipBuckets = new TokenBuckets(properties.getIp(), properties.getMaxKeys());
+        this.emailBuckets = new TokenBuckets(properties.getEmail(), properties.getMaxKeys());
+
+        this.ipRejected = Counter.builder("user.login.throttled").tag("key", "ip").register(meterRegistry);
+        this.emailRejected = Counter.builder("user.login.throttled").tag("key", "email").register(meterRegistry);
+        Gauge.builder("user.login.throttle.keys", ipBuckets, TokenBuckets::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("user.login.throttle.keys", emailBuckets, TokenBuckets::size).tag("key", "email").register(meterRegistry);
+    }
+
+    /**
+     * 허용 횟수를 넘으면 UserErrorCode.LOGIN_ATTEMPT_EXCEEDED
+     */
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        if (clientIp != null && !ipBuckets.tryAcquire(clientIp)) {
+            ipRejected.increment();
+            throw new ApiException(UserErrorCode.LOGIN_ATTEMPT_EXCEEDED);
+        }
+
+        if (email != null && !emailBuckets.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            emailRejected.increment();
+            throw new ApiException(UserErrorCode.LOGIN_ATTEMPT_EXCEEDED);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.delivery.api.domain.user.throttle;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 설정 (application.yaml 의 user.login-throttle.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 키(email / ip) 별 bucket 최대 보관 개수, 넘으면 오래 쓰지 않은 것부터 제거
+     */
+    private long maxKeys = 100_000;
+
+    private Limit email = new Limit(5, Duration.ofMinutes(1));
+
+    private Limit ip = new Limit(50, Duration.ofMinutes(1));
+
+    /**
+     * period 동안 capacity 번까지 허용 (연속 시도는 capacity 번까지, 이후 period / capacity 마다 1번씩 회복)
+     */
+    @Data
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
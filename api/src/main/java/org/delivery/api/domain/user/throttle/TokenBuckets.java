@@ -0,0 +1,57 @@
+package org.delivery.api.domain.user.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 token bucket (lock-free)
+ *
+ * bucket 하나는 AtomicLong 하나로, 다음 요청이 "정상 간격" 으로 들어올 수 있는 시각(TAT, nanoTime 기준) 만 저장한다. (GCRA)
+ * 요청마다 TAT 를 한 간격 뒤로 미루고, 미룬 TAT 가 지금보다 capacity 간격 이상 앞서면 거절한다.
+ * 갱신은 CAS 로만 하므로 같은 키에 여러 스레드가 몰려도 락 없이 허용 횟수가 정확히 지켜진다.
+ *
+ * 오래 쓰지 않은 bucket 은 어차피 가득 찬 상태와 같으므로 Caffeine 이 period 뒤에 제거한다. (최대 개수도 제한)
+ */
+class TokenBuckets {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    TokenBuckets(LoginThrottleProperties.Limit limit, long maxKeys) {
+        var periodNanos = limit.getPeriod().toNanos();
+        this.intervalNanos = periodNanos / limit.getCapacity();
+        this.burstNanos = intervalNanos * limit.getCapacity();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(periodNanos, TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    boolean tryAcquire(String key) {
+        var bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, it -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            var now = System.nanoTime();
+            var tat = bucket.get();
+            var newTat = (tat == Long.MIN_VALUE || tat - now < 0 ? now : tat) + intervalNanos;
+
+            if (newTat - now > burstNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -1,25 +1,40 @@
 package org.delivery.api.exceptionHandler;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.delivery.api.common.api.Api;
+import org.delivery.api.common.error.ErrorCode;
 import org.delivery.api.common.exception.ApiException;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.stream.Collectors;
+
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Order(value = Integer.MIN_VALUE) // 최우선으로 처리
 public class ApiExceptionHandler {
+
+    private final ErrorLogAggregator errorLogAggregator;
+
     @ExceptionHandler(value = ApiException.class)
     public ResponseEntity<Api<Object>> handleApiException(
             ApiException apiException
     ) {
-        log.error("", apiException); // ApiException 은 RuntimeException 을 상속받았기 떄문에 StackTrace 가 가능하다.
-
         var errorCode = apiException.getErrorCodeInterface();
 
+        if (errorCode.isExpected()) {
+            // 사용자 없음, 토큰 만료 등 클라이언트 에러는 stack trace 없이 코드별로 모아서 기록
+            errorLogAggregator.record(errorCode, apiException.getErrorDescription());
+        } else {
+            log.error("", apiException); // 서버 에러는 기존처럼 StackTrace 까지 남긴다.
+            errorLogAggregator.count(errorCode);
+        }
+
         return ResponseEntity
                 .status(errorCode.getHttpStatusCode())
                 .body(
@@ -27,5 +42,20 @@ public class ApiExceptionHandler {
                 );
     }
 
+    // @Valid 검증 실패 (email 공백 등) 는 클라이언트 에러이므로 500 이 아닌 BAD_REQUEST 로 응답
+    @ExceptionHandler(value = MethodArgumentNotValidException.class)
+    public ResponseEntity<Api<Object>> handleValidationException(
+            MethodArgumentNotValidException exception
+    ) {
+        var description = exception.getBindingResult().getFieldErrors().stream()
+                .map(it -> it.getField() + " " + it.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        errorLogAggregator.record(ErrorCode.BAD_REQUEST, description);
 
+        return ResponseEntity
+                .status(ErrorCode.BAD_REQUEST.getHttpStatusCode())
+                .body(
+                        Api.ERROR(ErrorCode.BAD_REQUEST, description)
+                );
+    }
 }
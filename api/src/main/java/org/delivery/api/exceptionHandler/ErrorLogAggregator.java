@@ -0,0 +1,113 @@
+package org.delivery.api.exceptionHandler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.common.error.ErrorCodeInterface;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예상된 에러 (ErrorCodeInterface.isExpected) 로그를 코드별로 모아서 남긴다.
+ *
+ * 구간(error-log.interval) 마다 코드별 첫 건만 바로 한 줄 (stack trace 없이) 남기고,
+ * 나머지는 건수만 세어 두었다가 구간이 끝날 때 요약 한 줄로 남긴다.
+ * 전체 건수는 api.exception 카운터 (code, expected 태그) 로 노출된다.
+ * 예상하지 못한 에러 (5xx) 는 로그는 바로 남기고 count 로 카운터만 올린다. (expected=false)
+ */
+@Slf4j
+@Component
+public class ErrorLogAggregator {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration interval;
+    private final Map<Integer, CodeStats> stats = new ConcurrentHashMap<>();
+    private final Map<Integer, Counter> unexpectedCounters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    public ErrorLogAggregator(
+            MeterRegistry meterRegistry,
+            @Value("${error-log.interval:PT10S}") Duration interval
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "error-log-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    public void record(ErrorCodeInterface errorCode, String errorDescription) {
+        var codeStats = stats.computeIfAbsent(errorCode.getErrorCode(), it -> new CodeStats(errorCode, counter(errorCode)));
+        codeStats.counter.increment();
+        codeStats.windowCount.increment();
+        codeStats.lastDescription = errorDescription;
+
+        if (codeStats.loggedInWindow.compareAndSet(false, true)) {
+            log.warn("api error code : {} , status : {} , description : {}",
+                    errorCode.getErrorCode(), errorCode.getHttpStatusCode(), errorDescription);
+        }
+    }
+
+    public void count(ErrorCodeInterface errorCode) {
+        unexpectedCounters.computeIfAbsent(errorCode.getErrorCode(), it -> counter(errorCode)).increment();
+    }
+
+    // 구간 동안 바로 남기지 않은 건수를 요약
+    void flush() {
+        stats.values().forEach(codeStats -> {
+            var count = codeStats.windowCount.sumThenReset();
+            codeStats.loggedInWindow.set(false);
+            if (count > 1) {
+                log.warn("api error code : {} , status : {} , suppressed : {} in last {}s , last description : {}",
+                        codeStats.errorCode.getErrorCode(), codeStats.errorCode.getHttpStatusCode(),
+                        count - 1, interval.toSeconds(), codeStats.lastDescription);
+            }
+        });
+    }
+
+    private Counter counter(ErrorCodeInterface errorCode) {
+        return Counter.builder("api.exception")
+                .description("ApiException count per error code")
+                .tag("code", String.valueOf(errorCode.getErrorCode()))
+                .tag("expected", String.valueOf(errorCode.isExpected()))
+                .register(meterRegistry);
+    }
+
+    private static class CodeStats {
+        private final ErrorCodeInterface errorCode;
+        private final Counter counter;
+        private final LongAdder windowCount = new LongAdder();
+        private final AtomicBoolean loggedInWindow = new AtomicBoolean();
+        private volatile String lastDescription;
+
+        private CodeStats(ErrorCodeInterface errorCode, Counter counter) {
+            this.errorCode = errorCode;
+            this.counter = counter;
+        }
+    }
+}
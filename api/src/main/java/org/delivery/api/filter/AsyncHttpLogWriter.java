@@ -0,0 +1,144 @@
+package org.delivery.api.filter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoggerFilter ASYNC 모드의 백그라운드 writer
+ *
+ * 요청 스레드는 offer 로 고정 크기 버퍼에 레코드만 넣고 바로 돌아간다.
+ * 버퍼가 가득 차면 기다리지 않고 레코드를 버린 뒤 drop 카운트만 올린다. (http.log.dropped 메트릭)
+ * 헤더/바디 문자열 변환, 민감 값 마스킹 (HttpLogRedactor), 로그 출력은 모두 writer 스레드에서 처리한다.
+ */
+@Slf4j
+@Component
+public class AsyncHttpLogWriter {
+
+    private final LoggerFilterProperties properties;
+    private final BlockingQueue<HttpLogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final HttpLogRedactor redactor;
+
+    private Thread writerThread;
+    private volatile boolean running;
+    private long reportedDroppedCount;
+
+    public AsyncHttpLogWriter(LoggerFilterProperties properties, HttpLogRedactor redactor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.redactor = redactor;
+
+        FunctionCounter.builder("http.log.dropped", droppedCount, AtomicLong::get)
+                .description("Request/response log records dropped because the async buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("http.log.buffer.size", buffer, BlockingQueue::size)
+                .description("Request/response log records waiting for the writer thread")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.getMode() != LoggerFilterProperties.Mode.ASYNC) {
+            return;
+        }
+
+        running = true;
+        writerThread = new Thread(this::run, "http-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+
+        // 남아있는 레코드는 writer 가 모두 쓰고 종료한다.
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 요청 스레드에서 호출, 절대 블로킹하지 않는다.
+     */
+    public void offer(HttpLogRecord record) {
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void run() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                var record = buffer.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    write(record);
+                }
+                reportDropped();
+            } catch (InterruptedException e) {
+                // stop() 에서 깨운 경우, 남은 레코드를 비우고 종료
+            } catch (RuntimeException e) {
+                log.warn("http log write fail", e);
+            }
+        }
+    }
+
+    private void write(HttpLogRecord record) {
+        var requestBody = body(record.requestBody(), record.requestBodySize());
+        log.info(">>>>> uri : {} , method : {} , header : {} , body : {}",
+                record.uri(), record.method(), headers(record.requestHeaders()), requestBody);
+
+        var responseBody = body(record.responseBody(), record.responseBodySize());
+        log.info("<<<<< uri : {} , method : {} , status : {} , elapsed : {}ms , header : {} , body : {}",
+                record.uri(), record.method(), record.status(), record.elapsedMillis(), headers(record.responseHeaders()), responseBody);
+    }
+
+    private void reportDropped() {
+        var dropped = droppedCount.get();
+        if (dropped != reportedDroppedCount) {
+            log.warn("http log buffer full, dropped : {} (total : {})", dropped - reportedDroppedCount, dropped);
+            reportedDroppedCount = dropped;
+        }
+    }
+
+    private String headers(String[] headers) {
+        var headerValues = new StringBuilder();
+        for (int i = 0; i + 1 < headers.length; i += 2) {
+            headerValues.append("[")
+                    .append(headers[i])
+                    .append(": ")
+                    .append(redactor.header(headers[i], headers[i + 1]))
+                    .append("] ");
+        }
+        return headerValues.toString();
+    }
+
+    private String body(byte[] body, int bodySize) {
+        if (body == null) {
+            return "";
+        }
+
+        var text = redactor.body(new String(body, StandardCharsets.UTF_8));
+        if (bodySize > body.length) {
+            return text + "...(" + bodySize + " bytes)";
+        }
+        return text;
+    }
+}
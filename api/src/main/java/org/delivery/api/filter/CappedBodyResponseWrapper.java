@@ -0,0 +1,128 @@
+package org.delivery.api.filter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * 응답 바디를 그대로 클라이언트로 보내면서 앞의 maxBodySize byte 만 로그용으로 복사한다.
+ *
+ * ContentCachingResponseWrapper 와 달리 전체 바디를 메모리에 모아 두지 않으므로 요청당 힙 사용량이 maxBodySize 를 넘지 않는다.
+ */
+class CappedBodyResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxBodySize;
+    private final ByteArrayOutputStream captured;
+    private int bodySize;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CappedBodyResponseWrapper(HttpServletResponse response, int maxBodySize) {
+        super(response);
+        this.maxBodySize = maxBodySize;
+        this.captured = new ByteArrayOutputStream(Math.min(maxBodySize, 1024));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream() has already been called");
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(new CapturingOutputStream(super.getOutputStream()), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /**
+     * getWriter 로 쓴 내용이 인코더 버퍼에 남지 않도록 비운다. (응답은 commit 하지 않음)
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    byte[] getCapturedBody() {
+        return captured.toByteArray();
+    }
+
+    int getBodySize() {
+        return bodySize;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        bodySize += length;
+        var remaining = maxBodySize - captured.size();
+        if (remaining > 0) {
+            captured.write(bytes, offset, Math.min(remaining, length));
+        }
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            bodySize++;
+            if (captured.size() < maxBodySize) {
+                captured.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
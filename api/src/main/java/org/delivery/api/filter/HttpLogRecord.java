@@ -0,0 +1,21 @@
+package org.delivery.api.filter;
+
+/**
+ * 요청 스레드에서 AsyncHttpLogWriter 로 넘기는 최소한의 요청/응답 정보
+ *
+ * 헤더는 [name, value, name, value ...] 형태로 펼쳐 두고, 바디는 최대 크기까지만 잘라서 담는다.
+ * 문자열 변환과 포맷팅은 writer 스레드에서 한다.
+ */
+public record HttpLogRecord(
+        String uri,
+        String method,
+        int status,
+        long elapsedMillis,
+        String[] requestHeaders,
+        byte[] requestBody,
+        int requestBodySize,
+        String[] responseHeaders,
+        byte[] responseBody,
+        int responseBodySize
+) {
+}
@@ -0,0 +1,51 @@
+package org.delivery.api.filter;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 요청/응답 로그에서 민감한 값을 가린다. (LoggerFilter SYNC 모드, AsyncHttpLogWriter 공통)
+ *
+ * 바디 : logger-filter.redact-fields 의 JSON 필드 값 (비밀번호, 발급된 토큰)
+ * 헤더 : logger-filter.mask-headers 의 값 (인증 토큰), 이름은 대소문자 구분 없음
+ */
+@Component
+public class HttpLogRedactor {
+
+    private static final String REDACTED = "****";
+
+    private final Pattern redactPattern;
+    private final Set<String> maskHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    public HttpLogRedactor(LoggerFilterProperties properties) {
+        this.redactPattern = redactPattern(properties);
+        this.maskHeaders.addAll(properties.getMaskHeaders());
+    }
+
+    public String body(String body) {
+        if (redactPattern == null || body.isEmpty()) {
+            return body;
+        }
+        return redactPattern.matcher(body).replaceAll("\"$1\":\"" + REDACTED + "\"");
+    }
+
+    public String header(String name, String value) {
+        return value != null && maskHeaders.contains(name) ? REDACTED : value;
+    }
+
+    // "password" : "..." 형태의 값을 가린다. 바디가 잘려서 닫는 따옴표가 없는 경우도 포함.
+    private static Pattern redactPattern(LoggerFilterProperties properties) {
+        if (properties.getRedactFields().isEmpty()) {
+            return null;
+        }
+
+        var fields = properties.getRedactFields().stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return Pattern.compile("\"(" + fields + ")\"\\s*:\\s*\"(?:[^\"\\\\]|\\\\.)*(?:\"|$)");
+    }
+}
@@ -0,0 +1,281 @@
+package org.delivery.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.delivery.api.common.api.Api;
+import org.delivery.api.common.error.ErrorCode;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 open-api POST 요청을 key 당 한 번만 실행
+ *
+ * 첫 요청만 실행하고 응답(status + body)을 ttl 동안 보관한다. 같은 key 의 재시도는 보관된 응답을 그대로 돌려준다.
+ * 첫 요청이 아직 실행 중이면 다시 실행하지 않고 그 결과를 기다린다. (재시도가 몰려도 DB 쓰기는 한 번)
+ * 5xx 나 예외로 끝난 요청은 보관하지 않으므로 다음 재시도가 다시 실행한다.
+ * 같은 key 에 다른 바디를 보내면 IDEMPOTENCY_KEY_REUSED (422)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // key : uri + Idempotency-Key, 실행 중인 요청은 완료되지 않은 future 로 보관
+    private final Cache<String, Entry> entries;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter reused;
+    private final Counter timedOut;
+    private final Counter skipped;
+
+    public IdempotencyFilter(
+            IdempotencyProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.reused = counter(meterRegistry, "reused");
+        this.timedOut = counter(meterRegistry, "timeout");
+        this.skipped = counter(meterRegistry, "skipped");
+        Gauge.builder("idempotency.keys", entries, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isTarget(request) || request.getHeader(properties.getHeaderName()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(properties.getHeaderName());
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            writeError(response, ErrorCode.BAD_REQUEST, properties.getHeaderName() + " 형식 오류");
+            return;
+        }
+
+        // 바디 길이를 알 수 없거나 너무 크면 fingerprint 를 만들 수 없으므로 key 없이 실행
+        var contentLength = request.getContentLengthLong();
+        if (contentLength < 0 || contentLength > properties.getMaxBodySize()) {
+            skipped.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var body = request.getInputStream().readNBytes((int) contentLength);
+        var bufferedRequest = new BufferedBodyRequest(request, body);
+        var fingerprint = sha256(body);
+        var cacheKey = request.getRequestURI() + " " + idempotencyKey;
+        var deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            var entry = new Entry(fingerprint, new CompletableFuture<>());
+            var existing = entries.asMap().putIfAbsent(cacheKey, entry);
+            if (existing == null) {
+                execute(bufferedRequest, response, filterChain, cacheKey, entry);
+                return;
+            }
+
+            if (!MessageDigest.isEqual(existing.fingerprint(), fingerprint)) {
+                reused.increment();
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                return;
+            }
+
+            try {
+                var cached = existing.response().get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                replayed.increment();
+                replay(response, cached);
+                return;
+            } catch (TimeoutException e) {
+                timedOut.increment();
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+                return;
+            } catch (ExecutionException e) {
+                // 첫 요청이 보관할 수 없는 결과로 끝남 (entry 는 이미 제거됨), 이 요청이 다시 실행을 시도
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+                return;
+            }
+        }
+    }
+
+    private void execute(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            String cacheKey,
+            Entry entry
+    ) throws ServletException, IOException {
+        executed.increment();
+        var wrappedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrappedResponse);
+
+            var status = wrappedResponse.getStatus();
+            if (status >= 500 || wrappedResponse.getContentSize() > properties.getMaxBodySize() || request.isAsyncStarted()) {
+                release(cacheKey, entry, new IllegalStateException("not cacheable status : " + status));
+            } else {
+                entry.response().complete(new CachedResponse(
+                        status,
+                        wrappedResponse.getContentType(),
+                        wrappedResponse.getContentAsByteArray()
+                ));
+            }
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            release(cacheKey, entry, e);
+            throw e;
+        } finally {
+            wrappedResponse.copyBodyToResponse();
+        }
+    }
+
+    // 기다리던 요청들이 깨어나 그 중 하나가 다시 실행한다.
+    private void release(String cacheKey, Entry entry, Throwable cause) {
+        entries.asMap().remove(cacheKey, entry);
+        entry.response().completeExceptionally(cause);
+    }
+
+    private void replay(HttpServletResponse response, CachedResponse cached) throws IOException {
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        writeError(response, errorCode, errorCode.getDescription());
+    }
+
+    // MVC 밖(필터)이라 ApiExceptionHandler 를 거치지 않으므로 같은 Api 형식으로 직접 작성
+    private void writeError(HttpServletResponse response, ErrorCode errorCode, String description) throws IOException {
+        response.setStatus(errorCode.getHttpStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Api.ERROR(errorCode, description));
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<CachedResponse> response) {
+    }
+
+    private record CachedResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * fingerprint 를 위해 미리 읽은 바디를 다시 읽을 수 있게 제공
+     */
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 모두 메모리에 있으므로 (원래 stream 은 다 읽음) 바로 읽을 수 있다고 알린다.
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    Objects.requireNonNull(readListener, "readListener");
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            var encoding = getCharacterEncoding();
+            var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
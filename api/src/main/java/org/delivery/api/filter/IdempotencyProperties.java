@@ -0,0 +1,70 @@
+package org.delivery.api.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IdempotencyFilter 설정 (application.yaml 의 idempotency.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private boolean enabled = true;
+
+    /**
+     * 클라이언트가 요청마다 생성해서 재시도 때 그대로 보내는 헤더
+     */
+    private String headerName = "Idempotency-Key";
+
+    private int maxKeyLength = 255;
+
+    /**
+     * 완료된 응답을 보관하는 시간 (첫 요청 시각 기준)
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * 보관할 최대 key 수, 넘으면 오래 사용되지 않은 key 부터 제거
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * 같은 key 의 첫 요청이 끝나기를 기다리는 최대 시간, 넘으면 IDEMPOTENCY_KEY_IN_PROGRESS (409)
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 요청 / 응답 바디 최대 byte, 넘으면 key 를 무시하고 그냥 실행 (응답은 보관하지 않음)
+     */
+    private int maxBodySize = 64 * 1024;
+
+    /**
+     * 적용할 POST 경로 (ant pattern)
+     */
+    private List<String> includePaths = new ArrayList<>(List.of("/open-api/**"));
+
+    /**
+     * 제외할 경로 (스트리밍 요청 / 응답 등)
+     */
+    private List<String> excludePaths = new ArrayList<>();
+
+    public boolean isTarget(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return false;
+        }
+        var uri = request.getRequestURI();
+        return includePaths.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, uri))
+                && excludePaths.stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, uri));
+    }
+}
@@ -0,0 +1,81 @@
+package org.delivery.api.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.config.metrics.LayerTiming;
+import org.delivery.api.config.metrics.LayerTimingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 LayerTiming 을 시작하고, 끝나면 경로(uri 패턴) + 계층별로 http.server.layer 타이머에 기록
+ *
+ * LoggerFilter 보다 바깥에서 실행되므로 LoggerFilter 시간은 filter 계층에 포함된다.
+ * 조회 예) /actuator/metrics/http.server.layer?tag=uri:/api/user/me&tag=layer:sql
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "layer-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LayerTimingFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "http.server.layer";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final LayerTimingProperties properties;
+
+    // uri 패턴별 계층 타이머, 요청마다 registry 를 조회하지 않도록 보관
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var timing = LayerTiming.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LayerTiming.end(timing);
+            record(request, timing);
+        }
+    }
+
+    private void record(HttpServletRequest request, LayerTiming timing) {
+        // 매칭된 핸들러 패턴을 쓴다 (실제 경로를 쓰면 /users/1, /users/2 ... 로 태그가 무한히 늘어남)
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+        var layerTimers = timers.computeIfAbsent(uri, this::registerTimers);
+        for (var layer : LayerTiming.Layer.values()) {
+            layerTimers[layer.ordinal()].record(timing.getNanos(layer), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] registerTimers(String uri) {
+        var percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        var layers = LayerTiming.Layer.values();
+        var layerTimers = new Timer[layers.length];
+        for (var layer : layers) {
+            layerTimers[layer.ordinal()] = Timer.builder(METRIC_NAME)
+                    .description("Exclusive time spent in each layer per request")
+                    .tag("uri", uri)
+                    .tag("layer", layer.getMetricName())
+                    .publishPercentiles(percentiles)
+                    .register(meterRegistry);
+        }
+        return layerTimers;
+    }
+}
@@ -1,5 +1,6 @@
 package org.delivery.api.filter;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -9,15 +10,24 @@ import javax.servlet.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * LoggerFilter is a servlet filter that logs HTTP request and response details.
  * It uses ContentCachingRequestWrapper and ContentCachingResponseWrapper to capture the body of the requests and responses.
+ * In ASYNC mode the request thread only hands a sampled, size-capped HttpLogRecord to AsyncHttpLogWriter,
+ * and the response body is never buffered beyond the route's max body size (CappedBodyResponseWrapper).
  */
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class LoggerFilter implements Filter {
 
+    private final LoggerFilterProperties properties;
+    private final AsyncHttpLogWriter asyncHttpLogWriter;
+    private final HttpLogRedactor redactor;
+
     /**
      * The doFilter method is overridden to provide custom logging functionality.
      * It wraps the request and response objects with ContentCaching wrappers to capture their content.
@@ -30,6 +40,20 @@ public class LoggerFilter implements Filter {
      */
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        var maxBodySize = properties.getMaxBodySize(((HttpServletRequest) servletRequest).getRequestURI());
+
+        if (properties.getMode() == LoggerFilterProperties.Mode.ASYNC) {
+            doFilterAsync((HttpServletRequest) servletRequest, (HttpServletResponse) servletResponse, filterChain, maxBodySize);
+            return;
+        }
+
+        // Routes with a max body size of 0 (e.g. streamed responses) must not be cached in memory.
+        if (maxBodySize == 0) {
+            log.info("INIT URI : {}", ((HttpServletRequest) servletRequest).getRequestURI());
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
         // Wrap the request and response objects with ContentCaching wrappers to capture their content.
         var req = new ContentCachingRequestWrapper((HttpServletRequest) servletRequest);
         var res = new ContentCachingResponseWrapper((HttpServletResponse) servletResponse);
@@ -45,7 +69,8 @@ public class LoggerFilter implements Filter {
 
         // Iterate over header names to collect all header key-value pairs.
         headerNames.asIterator().forEachRemaining(headerKey -> {
-            var headerValue = req.getHeader(headerKey);
+            // Sensitive header values (e.g. authorization-token) are masked.
+            var headerValue = redactor.header(headerKey, req.getHeader(headerKey));
             // Append header key and value to the headerValues string for logging purposes.
             headerValues.append("[")
                     .append(headerKey)
@@ -54,8 +79,8 @@ public class LoggerFilter implements Filter {
                     .append("] ");
         });
 
-        // Log request body. Convert byte array to string to log the request payload.
-        var requestBody = new String(req.getContentAsByteArray());
+        // Log request body. Convert byte array to string to log the request payload, with redact-fields masked.
+        var requestBody = redactor.body(new String(req.getContentAsByteArray()));
         var uri = req.getRequestURI();
         var method = req.getMethod();
 
@@ -67,7 +92,7 @@ public class LoggerFilter implements Filter {
 
         // Iterate over response header names to collect all header key-value pairs.
         res.getHeaderNames().forEach(headerKey -> {
-            var headerValue = res.getHeader(headerKey);
+            var headerValue = redactor.header(headerKey, res.getHeader(headerKey));
             // Append header key and value to the responseHeaderValues string for logging purposes.
             responseHeaderValues.append("[")
                     .append(headerKey)
@@ -76,8 +101,8 @@ public class LoggerFilter implements Filter {
                     .append("] ");
         });
 
-        // Log response body. Convert byte array to string to log the response payload.
-        var responseBody = new String(res.getContentAsByteArray());
+        // Log response body. Convert byte array to string to log the response payload, with issued tokens masked.
+        var responseBody = redactor.body(new String(res.getContentAsByteArray()));
 
         // Log the response headers and body.
         log.info("<<<<< uri : {} , method : {} , header : {} , body : {}", uri, method, responseHeaderValues, responseBody);
@@ -86,4 +111,63 @@ public class LoggerFilter implements Filter {
         // This is necessary because the response body is cached and needs to be written back for the client to receive it.
         res.copyBodyToResponse();
     }
+
+    /**
+     * ASYNC mode. Only sampled requests are wrapped, routes with a max body size of 0 are not wrapped at all,
+     * request and response bodies are copied up to maxBodySize, and the formatting is left to the AsyncHttpLogWriter thread.
+     */
+    private void doFilterAsync(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, int maxBodySize) throws IOException, ServletException {
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var startNanos = System.nanoTime();
+
+        if (maxBodySize == 0) {
+            filterChain.doFilter(request, response);
+
+            asyncHttpLogWriter.offer(new HttpLogRecord(
+                    request.getRequestURI(), request.getMethod(), response.getStatus(), elapsedMillis(startNanos),
+                    requestHeaders(request), null, 0,
+                    responseHeaders(response), null, 0
+            ));
+            return;
+        }
+
+        // Both bodies are copied only up to maxBodySize, the response itself is streamed to the client as it is written.
+        var req = new ContentCachingRequestWrapper(request, maxBodySize);
+        var res = new CappedBodyResponseWrapper(response, maxBodySize);
+
+        filterChain.doFilter(req, res);
+        res.flushWriter();
+
+        asyncHttpLogWriter.offer(new HttpLogRecord(
+                req.getRequestURI(), req.getMethod(), res.getStatus(), elapsedMillis(startNanos),
+                requestHeaders(req), req.getContentAsByteArray(), req.getContentLength(),
+                responseHeaders(res), res.getCapturedBody(), res.getBodySize()
+        ));
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private String[] requestHeaders(HttpServletRequest request) {
+        var headers = new ArrayList<String>();
+        request.getHeaderNames().asIterator().forEachRemaining(headerKey -> {
+            headers.add(headerKey);
+            headers.add(request.getHeader(headerKey));
+        });
+        return headers.toArray(String[]::new);
+    }
+
+    private String[] responseHeaders(HttpServletResponse response) {
+        var headers = new ArrayList<String>();
+        response.getHeaderNames().forEach(headerKey -> {
+            headers.add(headerKey);
+            headers.add(response.getHeader(headerKey));
+        });
+        return headers.toArray(String[]::new);
+    }
 }
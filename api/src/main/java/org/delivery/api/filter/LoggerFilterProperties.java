@@ -0,0 +1,73 @@
+package org.delivery.api.filter;
+
+import lombok.Data;
+import org.delivery.api.interceptor.AuthorizationInterceptor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoggerFilter 설정 (application.yaml 의 logger-filter.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "logger-filter")
+public class LoggerFilterProperties {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    /**
+     * SYNC : 요청 스레드에서 헤더/바디를 문자열로 만들어 바로 로그 (기존 방식)
+     * ASYNC : 요청 스레드는 링 버퍼에 레코드만 넣고, 백그라운드 writer 가 포맷팅
+     */
+    private Mode mode = Mode.SYNC;
+
+    /**
+     * ASYNC 모드에서 로그를 남길 요청 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * ASYNC 모드 링 버퍼 크기, 가득 차면 레코드를 버리고 drop 카운트를 올린다.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 요청/응답 바디를 로그에 담을 최대 byte 수
+     */
+    private int defaultMaxBodySize = 4096;
+
+    /**
+     * 경로(Ant 패턴)별 바디 최대 byte 수, 0 이면 바디를 캐싱하지 않는다 (스트리밍 응답 등)
+     */
+    private Map<String, Integer> routeMaxBodySize = new LinkedHashMap<>();
+
+    /**
+     * 로그에서 값을 가릴 JSON 필드 (요청의 비밀번호, 로그인 응답의 토큰)
+     */
+    private List<String> redactFields = new ArrayList<>(List.of("password", "access_token", "refresh_token"));
+
+    /**
+     * 로그에서 값을 가릴 요청/응답 헤더 (인증 토큰)
+     */
+    private List<String> maskHeaders = new ArrayList<>(List.of(AuthorizationInterceptor.AUTHORIZATION_TOKEN_HEADER));
+
+    public int getMaxBodySize(String uri) {
+        for (var entry : routeMaxBodySize.entrySet()) {
+            if (PATH_MATCHER.match(entry.getKey(), uri)) {
+                return entry.getValue();
+            }
+        }
+        return defaultMaxBodySize;
+    }
+
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+}
@@ -0,0 +1,115 @@
+package org.delivery.api.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.config.metrics.SqlStatementRecorder;
+import org.delivery.api.config.metrics.SqlStatistics;
+import org.delivery.api.config.metrics.SqlStatisticsProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청마다 실행된 SQL 수를 경로(uri 패턴)별로 기록하고, 같은 문장이 반복되면(N+1) 알린다.
+ *
+ * http.server.sql.statements : 요청당 SQL 수 분포 (SQL 시간은 http.server.layer 의 sql 계층)
+ * http.server.sql.repeated : 같은 문장이 repeated-threshold 번 이상 실행된 요청 수, 경로별로 repeated-log-interval 마다 한 번 경고 로그
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "sql-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatisticsProperties properties;
+    private final SqlStatementRecorder sqlStatementRecorder;
+
+    // uri 패턴별 미터, 요청마다 registry 를 조회하지 않도록 보관
+    private final Map<String, UriMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            SqlStatisticsProperties properties,
+            SqlStatementRecorder sqlStatementRecorder
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.sqlStatementRecorder = sqlStatementRecorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var statistics = SqlStatistics.begin(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatistics.end();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        // 매칭된 핸들러 패턴을 쓴다 (실제 경로를 쓰면 /users/1, /users/2 ... 로 태그가 무한히 늘어남)
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        var uriMeters = meters.computeIfAbsent(uri, this::registerMeters);
+
+        uriMeters.statements().record(statistics.getStatementCount());
+
+        var mostRepeated = statistics.getMostRepeated();
+        if (mostRepeated == null || mostRepeated.getValue() < properties.getRepeatedThreshold()) {
+            return;
+        }
+        uriMeters.repeated().increment();
+
+        var now = System.nanoTime();
+        var lastLogged = uriMeters.lastRepeatedLogNanos();
+        var lastLoggedNanos = lastLogged.get();
+        if (now - lastLoggedNanos >= properties.getRepeatedLogInterval().toNanos() && lastLogged.compareAndSet(lastLoggedNanos, now)) {
+            log.warn("repeated query (N+1) uri : {} , {} times of {} statements , sql : {}",
+                    statistics.getRequestUri(),
+                    mostRepeated.getValue(),
+                    statistics.getStatementCount(),
+                    sqlStatementRecorder.abbreviate(mostRepeated.getKey()));
+        }
+    }
+
+    private UriMeters registerMeters(String uri) {
+        var statements = DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        var repeated = Counter.builder("http.server.sql.repeated")
+                .description("Requests that ran the same statement sql-statistics.repeated-threshold times or more (N+1)")
+                .tag("uri", uri)
+                .register(meterRegistry);
+        // 첫 N+1 은 바로 로그
+        var lastRepeatedLogNanos = new AtomicLong(System.nanoTime() - properties.getRepeatedLogInterval().toNanos());
+        return new UriMeters(statements, repeated, lastRepeatedLogNanos);
+    }
+
+    private record UriMeters(
+            DistributionSummary statements,
+            Counter repeated,
+            AtomicLong lastRepeatedLogNanos
+    ) {
+    }
+}
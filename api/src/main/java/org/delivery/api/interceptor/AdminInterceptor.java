@@ -0,0 +1,36 @@
+package org.delivery.api.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 관리자 api 권한 확인 (AuthorizationInterceptor 다음에 실행)
+ *
+ * 토큰에서 꺼낸 userId 가 admin.user-ids 에 없으면 FORBIDDEN
+ */
+@RequiredArgsConstructor
+@Component
+public class AdminInterceptor implements HandlerInterceptor {
+
+    private final AdminProperties adminProperties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+
+        var userId = request.getAttribute(AuthorizationInterceptor.USER_ID_ATTRIBUTE);
+        if (userId == null || !adminProperties.getUserIds().contains(Long.parseLong(userId.toString()))) {
+            throw new ApiException(ErrorCode.FORBIDDEN);
+        }
+        return true;
+    }
+}
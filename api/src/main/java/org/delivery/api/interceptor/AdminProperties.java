@@ -0,0 +1,23 @@
+package org.delivery.api.interceptor;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 관리자 api 설정 (application.yaml 의 admin.*)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "admin")
+public class AdminProperties {
+
+    /**
+     * 관리자 api (전체 사용자 목록 / 내보내기 / 일괄 가입) 를 호출할 수 있는 사용자 id
+     * 비어 있으면 (기본값) 누구도 호출할 수 없다.
+     */
+    private Set<Long> userIds = new LinkedHashSet<>();
+}
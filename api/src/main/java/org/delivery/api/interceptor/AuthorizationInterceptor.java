@@ -2,19 +2,30 @@ package org.delivery.api.interceptor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.common.error.TokenErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.token.business.TokenBusiness;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.Objects;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class AuthorizationInterceptor implements HandlerInterceptor {
+    public static final String AUTHORIZATION_TOKEN_HEADER = "authorization-token";
+    public static final String USER_ID_ATTRIBUTE = "userId";
+
+    private final TokenBusiness tokenBusiness;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         log.info("Authorization Interceptor uril : {}", request.getRequestURI());
@@ -29,8 +40,17 @@ public class AuthorizationInterceptor implements HandlerInterceptor {
             return true; // 그냥 패스
         }
 
-        // TODO header 검증
+        // header 검증 (서명/만료만 확인하고 DB 는 조회하지 않는다)
+        var accessToken = request.getHeader(AUTHORIZATION_TOKEN_HEADER);
+        if(accessToken == null || accessToken.isBlank()){
+            throw new ApiException(TokenErrorCode.AUTHORIZATION_TOKEN_NOT_FOUND);
+        }
+
+        var userId = tokenBusiness.validationAccessToken(accessToken);
+
+        var requestContext = Objects.requireNonNull(RequestContextHolder.getRequestAttributes());
+        requestContext.setAttribute(USER_ID_ATTRIBUTE, userId, RequestAttributes.SCOPE_REQUEST);
 
-        return true; // 일단 통과 처리
+        return true;
     }
 }
@@ -0,0 +1,141 @@
+package org.delivery.api.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ReplicaRoutingDataSource 가 트랜잭션 종류 / read-your-writes / replica 상태에 따라 어느 DB 로 보내는지 확인
+ *
+ * primary 와 replica 를 서로 다른 메모리 DB 로 만들고, 각 DB 의 node 테이블에 자기 이름을 넣어서 조회 결과로 구분한다.
+ * replica 상태는 replica_lag 테이블을 lag-query 로 읽어서 바꾼다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofMillis(200);
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = newDatabase(PRIMARY);
+        replica = newDatabase(REPLICA);
+        new JdbcTemplate(replica).execute("create table replica_lag (seconds bigint)");
+        new JdbcTemplate(replica).update("insert into replica_lag (seconds) values (0)");
+
+        var properties = new DataSourceRoutingProperties();
+        properties.setEnabled(true);
+        properties.setHealthCheckInterval(Duration.ofMillis(50));
+        properties.setLagQuery("select seconds from replica_lag");
+        properties.setMaxReplicaLag(Duration.ofSeconds(1));
+        properties.setReadYourWritesWindow(READ_YOUR_WRITES_WINDOW);
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), properties);
+        routingDataSource.afterPropertiesSet();
+
+        // RoutingDataSourceConfig 와 같이 첫 SQL 시점에 커넥션을 얻도록 감싼다.
+        var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary")
+    void routesByTransactionReadOnly() {
+        assertEquals(REPLICA, readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(PRIMARY, writeTransaction.execute(status -> currentNode()));
+        assertEquals(PRIMARY, currentNode());
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 read-your-writes 창 동안은 같은 키의 조회만 primary, 창이 지나면 다시 replica")
+    void readYourWritesWindow() throws InterruptedException {
+        var tracker = new ReadYourWritesTracker(READ_YOUR_WRITES_WINDOW);
+        tracker.recordWrite("user:1");
+
+        assertEquals(PRIMARY, tracker.read("user:1", readOnly(this::currentNode)));
+        assertEquals(REPLICA, tracker.read("user:2", readOnly(this::currentNode)));
+
+        Thread.sleep(READ_YOUR_WRITES_WINDOW.multipliedBy(2).toMillis());
+
+        assertEquals(REPLICA, tracker.read("user:1", readOnly(this::currentNode)));
+    }
+
+    @Test
+    @DisplayName("지연이 큰 replica 는 건너뛰고 primary 로 보내며, 지연이 회복되면 다시 replica 로 보낸다")
+    void unhealthyReplicaFallsBackToPrimary() throws InterruptedException {
+        assertEquals(REPLICA, readOnlyTransaction.execute(status -> currentNode()));
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 10");
+        awaitReadOnlyNode(PRIMARY);
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 0");
+        awaitReadOnlyNode(REPLICA);
+    }
+
+    @Test
+    @DisplayName("runOnPrimary 는 readOnly 트랜잭션이라도 primary")
+    void runOnPrimaryOverridesReadOnly() {
+        assertEquals(PRIMARY, DataSourceRoutingContext.runOnPrimary(readOnly(this::currentNode)));
+    }
+
+    private Supplier<String> readOnly(Supplier<String> supplier) {
+        return () -> readOnlyTransaction.execute(status -> supplier.get());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    // 상태 확인은 별도 스레드에서 주기적으로 실행되므로 결과가 바뀔 때까지 기다린다.
+    private void awaitReadOnlyNode(String expected) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String node;
+        while (!expected.equals(node = readOnlyTransaction.execute(status -> currentNode()))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, node);
+    }
+
+    private static HikariDataSource newDatabase(String name) {
+        var dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID());
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setPoolName(name);
+
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
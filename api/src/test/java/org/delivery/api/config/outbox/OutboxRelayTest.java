@@ -0,0 +1,150 @@
+package org.delivery.api.config.outbox;
+
+import org.delivery.api.domain.user.event.UserEventOutbox;
+import org.delivery.api.domain.user.event.UserEventType;
+import org.delivery.api.domain.user.service.UserService;
+import org.delivery.db.outbox.OutboxEvent;
+import org.delivery.db.outbox.OutboxEventEntity;
+import org.delivery.db.outbox.OutboxEventRepository;
+import org.delivery.db.user.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * outbox relay 가 aggregate(사용자) 별 순서대로 발행하고, 발행한 행만 삭제하는지 확인
+ *
+ * 주기 relay 는 길게 잡고 relayOnce() 를 직접 호출한다. (outbox.sink=memory)
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=embedded",
+        "user.password.bcrypt-strength=4",
+        "user.last-login.flush-interval=PT1H",
+        "outbox.poll-interval=PT1H"
+})
+class OutboxRelayTest {
+
+    @SpyBean
+    private InMemoryOutboxEventSink outboxEventSink;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserEventOutbox userEventOutbox;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserEntity first;
+    private UserEntity second;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 메모리 DB 를 쓰는 다른 테스트에서 남은 이벤트를 먼저 비운다.
+        while (outboxRelay.relayOnce() > 0) {
+        }
+        outboxEventSink.clear();
+
+        // 사용자별 REGISTERED 이벤트 뒤에 두 사용자의 이벤트를 섞어서 추가
+        first = userService.register(newUser());
+        second = userService.register(newUser());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userEventOutbox.append(UserEventType.REGISTERED, first);
+            userEventOutbox.append(UserEventType.REGISTERED, second);
+            userEventOutbox.append(UserEventType.REGISTERED, first);
+        });
+    }
+
+    @Test
+    @DisplayName("aggregate 별로 기록한 순서대로 발행하고 발행한 행은 삭제한다")
+    void relayPublishesInOrderAndDeletes() {
+        var firstIds = pendingIds(first);
+        var secondIds = pendingIds(second);
+        assertEquals(3, firstIds.size());
+        assertEquals(2, secondIds.size());
+
+        outboxRelay.relayOnce();
+
+        assertEquals(firstIds, publishedIds(first));
+        assertEquals(secondIds, publishedIds(second));
+        assertTrue(pendingIds(first).isEmpty());
+        assertTrue(pendingIds(second).isEmpty());
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 aggregate 의 이후 이벤트는 다음 relay 까지 미루고, 다른 aggregate 는 계속 발행한다")
+    void failedAggregateKeepsOrder() {
+        var firstIds = pendingIds(first);
+        var secondIds = pendingIds(second);
+
+        // first 의 첫 이벤트만 한 번 실패 (이후 호출은 실제 sink)
+        doThrow(new IllegalStateException("sink unavailable"))
+                .doCallRealMethod()
+                .when(outboxEventSink)
+                .publish(argThat(event -> event != null && event.id().equals(firstIds.get(0))));
+
+        outboxRelay.relayOnce();
+
+        assertTrue(publishedIds(first).isEmpty());
+        assertEquals(firstIds, pendingIds(first));
+        assertEquals(secondIds, publishedIds(second));
+        assertTrue(pendingIds(second).isEmpty());
+
+        outboxRelay.relayOnce();
+
+        assertEquals(firstIds, publishedIds(first));
+        assertTrue(pendingIds(first).isEmpty());
+    }
+
+    // sink 에 발행된 순서
+    private List<Long> publishedIds(UserEntity userEntity) {
+        return outboxEventSink.getPublished().stream()
+                .filter(it -> isOf(it, userEntity))
+                .map(OutboxEvent::id)
+                .toList();
+    }
+
+    // 아직 outbox_event 에 남아 있는 행 (id 순)
+    private List<Long> pendingIds(UserEntity userEntity) {
+        return outboxEventRepository.findAll().stream()
+                .filter(it -> UserEventOutbox.AGGREGATE_TYPE.equals(it.getAggregateType()))
+                .filter(it -> userEntity.getId().equals(it.getAggregateId()))
+                .map(OutboxEventEntity::getId)
+                .sorted()
+                .toList();
+    }
+
+    private static boolean isOf(OutboxEvent event, UserEntity userEntity) {
+        return UserEventOutbox.AGGREGATE_TYPE.equals(event.aggregateType())
+                && userEntity.getId().equals(event.aggregateId());
+    }
+
+    private static UserEntity newUser() {
+        return UserEntity.builder()
+                .name("outbox-test")
+                .email(UUID.randomUUID() + "@outbox.test")
+                .password("password1234")
+                .address("seoul")
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package org.delivery.api.domain.user.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.error.UserErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.db.user.UserProfile;
+import org.delivery.db.user.UserRepository;
+import org.delivery.db.user.enums.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 id 의 동시 miss 가 repository 조회 한 번으로 합쳐지고, 결과 / 예외 / timeout 이 기다리던 모든 호출에 전달되는지 확인
+ */
+class UserProfileSingleFlightTest {
+
+    private static final int CALLERS = 16;
+    private static final Long USER_ID = 1L;
+
+    private final UserProfile userProfile = new UserProfile(
+            USER_ID, "single-flight", "single@flight.test", UserStatus.REGISTERED, "seoul",
+            LocalDateTime.now(), null, null
+    );
+
+    private MeterRegistry meterRegistry;
+    private UserRepository userRepository;
+    private ExecutorService executor;
+
+    // 조회가 이 latch 에서 멈춰 있는 동안 나머지 호출이 모두 기다리게 된다.
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userRepository = mock(UserRepository.class);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 miss 는 repository 를 한 번만 호출하고 모두 같은 결과를 받는다")
+    void concurrentMissesShareOneLoad() throws Exception {
+        when(userRepository.findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(userProfile);
+        });
+        var singleFlight = new UserProfileSingleFlight(Duration.ofSeconds(10), meterRegistry);
+
+        var futures = submitAll(singleFlight);
+        awaitCalls("shared", CALLERS - 1);
+        release.countDown();
+
+        for (var future : futures) {
+            assertSame(userProfile, future.get(10, TimeUnit.SECONDS));
+        }
+        verify(userRepository, times(1)).findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("조회 중 발생한 예외는 기다리던 모든 호출에 같은 예외로 전달된다")
+    void loaderErrorReachesEveryWaiter() throws Exception {
+        var error = new ApiException(UserErrorCode.USER_NOT_FOUND);
+        when(userRepository.findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED)).thenAnswer(invocation -> {
+            release.await();
+            throw error;
+        });
+        var singleFlight = new UserProfileSingleFlight(Duration.ofSeconds(10), meterRegistry);
+
+        var futures = submitAll(singleFlight);
+        awaitCalls("shared", CALLERS - 1);
+        release.countDown();
+
+        for (var future : futures) {
+            assertSame(error, causeOf(future));
+        }
+        verify(userRepository, times(1)).findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("timeout 까지 결과가 없으면 기다리던 호출은 모두 SERVER_BUSY, 조회한 호출은 결과를 받는다")
+    void waitTimeoutReachesEveryWaiter() throws Exception {
+        when(userRepository.findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(userProfile);
+        });
+        var singleFlight = new UserProfileSingleFlight(Duration.ofMillis(100), meterRegistry);
+
+        var futures = submitAll(singleFlight);
+        awaitCalls("timeout", CALLERS - 1);
+        release.countDown();
+
+        var loaded = 0;
+        for (var future : futures) {
+            try {
+                assertSame(userProfile, future.get(10, TimeUnit.SECONDS));
+                loaded++;
+            } catch (ExecutionException e) {
+                var apiException = assertInstanceOf(ApiException.class, e.getCause());
+                assertEquals(ErrorCode.SERVER_BUSY, apiException.getErrorCodeInterface());
+            }
+        }
+        assertEquals(1, loaded);
+        verify(userRepository, times(1)).findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED);
+    }
+
+    private List<Future<UserProfile>> submitAll(UserProfileSingleFlight singleFlight) {
+        var futures = new ArrayList<Future<UserProfile>>();
+        for (var i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute(USER_ID, () ->
+                    userRepository.findProfileByIdAndStatus(USER_ID, UserStatus.REGISTERED).orElseThrow()
+            )));
+        }
+        return futures;
+    }
+
+    // singleflight.calls 의 result 별 횟수로 나머지 호출이 모두 기다리기 시작했는지 (또는 timeout 났는지) 확인
+    private void awaitCalls(String result, int expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count(result) < expected) {
+            assertTrue(System.nanoTime() < deadline, () -> "singleflight.calls result=" + result + " : " + count(result));
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("singleflight.calls")
+                .tag("name", "user.profile")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static Throwable causeOf(Future<?> future) throws Exception {
+        try {
+            future.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("expected failure");
+    }
+}
@@ -0,0 +1,77 @@
+package org.delivery.api.domain.user.lastlogin;
+
+import org.delivery.api.domain.user.cache.UserCache;
+import org.delivery.api.domain.user.service.UserService;
+import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JDBC 로 직접 갱신하는 flush 뒤에 UserCache 와 hibernate 2차 캐시에 이전 값이 남지 않는지 확인
+ *
+ * 주기 flush 는 길게 잡고 flush() 를 직접 호출한다. (UserServiceCacheTest 와 같은 컨텍스트)
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=embedded",
+        "user.password.bcrypt-strength=4",
+        "user.last-login.flush-interval=PT1H",
+        "outbox.poll-interval=PT1H"
+})
+class LastLoginWriteBehindTest {
+
+    @Autowired
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("flush 후 두 캐시가 모두 제거되고 다음 조회는 새 last_login_at 을 돌려준다")
+    void flushEvictsCaches() {
+        var userId = userService.register(UserEntity.builder()
+                .name("write-behind-test")
+                .email(UUID.randomUUID() + "@write-behind.test")
+                .password("password1234")
+                .address("seoul")
+                .build()
+        ).getId();
+
+        // 두 캐시에 last_login_at 이 없는 값을 올려 둔다.
+        assertNull(userService.getUserProfileWithThrow(userId).lastLoginAt());
+        assertNull(userRepository.findById(userId).orElseThrow().getLastLoginAt());
+        var secondLevelCache = entityManagerFactory.getCache();
+        assertTrue(secondLevelCache.contains(UserEntity.class, userId));
+
+        // datetime(6) 이므로 마이크로초까지만 비교
+        var lastLoginAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        lastLoginWriteBehind.record(userId, lastLoginAt);
+        lastLoginWriteBehind.flush();
+
+        assertTrue(userCache.get(userId).isEmpty());
+        assertFalse(secondLevelCache.contains(UserEntity.class, userId));
+        assertEquals(lastLoginAt, userRepository.findById(userId).orElseThrow().getLastLoginAt());
+        assertEquals(lastLoginAt, userService.getUserProfileWithThrow(userId).lastLoginAt());
+    }
+}
@@ -0,0 +1,111 @@
+package org.delivery.api.domain.user.service;
+
+import org.delivery.api.config.metrics.SqlStatementRecorder;
+import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserRepository;
+import org.delivery.db.user.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserRepository 조회 메서드가 실제로 실행한 SQL 을 EXPLAIN 해서 full scan 이 없는지 확인
+ *
+ * 메서드 이름으로 만들어지는 SQL 은 SqlStatementRecorder 에서 가져온다. (직접 쓴 SQL 과 달라지지 않도록)
+ * 전체 내보내기 (streamAll, streamEmails) 는 원래 전체를 읽으므로 제외
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=embedded",
+        "user.password.bcrypt-strength=4",
+        "user.last-login.flush-interval=PT1H",
+        "outbox.poll-interval=PT1H"
+})
+class UserRepositoryExplainTest {
+
+    private static final String FULL_SCAN = "tablescan";
+
+    @SpyBean
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String email;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        var users = userService.registerAll(new ArrayList<>(IntStream.range(0, 50)
+                .mapToObj(it -> UserEntity.builder()
+                        .name("explain-test")
+                        .email(UUID.randomUUID() + "@explain.test")
+                        .password("password1234")
+                        .address("seoul")
+                        .build())
+                .toList()));
+        email = users.get(0).getEmail();
+        userId = users.get(0).getId();
+    }
+
+    @Test
+    @DisplayName("조회 메서드는 모두 인덱스를 사용한다")
+    void lookupQueriesUseIndex() {
+        var pageable = PageRequest.of(0, 10);
+
+        assertNoFullScan("findFirstByEmailAndStatusOrderByIdDesc",
+                () -> userRepository.findFirstByEmailAndStatusOrderByIdDesc(email, UserStatus.REGISTERED));
+        assertNoFullScan("existsByEmail",
+                () -> userRepository.existsByEmail(email));
+        assertNoFullScan("findFirstByIdAndStatusOrderByIdDesc",
+                () -> userRepository.findFirstByIdAndStatusOrderByIdDesc(userId, UserStatus.REGISTERED));
+        assertNoFullScan("findProfileByIdAndStatus",
+                () -> userRepository.findProfileByIdAndStatus(userId, UserStatus.REGISTERED));
+        assertNoFullScan("findProfilesByIdLessThanOrderByIdDesc",
+                () -> userRepository.findProfilesByIdLessThanOrderByIdDesc(Long.MAX_VALUE, pageable));
+        assertNoFullScan("findAllByIdLessThanOrderByIdDesc",
+                () -> userRepository.findAllByIdLessThanOrderByIdDesc(Long.MAX_VALUE, pageable));
+    }
+
+    private void assertNoFullScan(String name, Runnable query) {
+        clearInvocations(sqlStatementRecorder);
+        query.run();
+
+        var sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(sqlStatementRecorder, atLeastOnce()).onStatement(sqlCaptor.capture(), anyLong());
+
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        sqlCaptor.getAllValues().stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .distinct()
+                .forEach(sql -> {
+                    // 계획만 확인하므로 파라미터는 모두 null
+                    var parameters = new Object[(int) sql.chars().filter(it -> it == '?').count()];
+                    var plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, parameters));
+                    assertFalse(plan.toLowerCase(Locale.ROOT).contains(FULL_SCAN), () -> name + " full scan\n" + plan);
+                });
+    }
+}
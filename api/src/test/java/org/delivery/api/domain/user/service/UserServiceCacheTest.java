@@ -0,0 +1,168 @@
+package org.delivery.api.domain.user.service;
+
+import org.delivery.api.domain.user.cache.UserCache;
+import org.delivery.api.domain.user.password.PasswordHasher;
+import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserProfile;
+import org.delivery.db.user.UserRepository;
+import org.delivery.db.user.enums.UserStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자 정보를 바꾸는 UserService 쓰기 뒤에 UserCache 와 hibernate 2차 캐시가 새 값을 돌려주는지 확인
+ *
+ * 주기를 길게 잡아 LastLoginWriteBehind / OutboxRelay 가 테스트 중에 끼어들지 않도록 한다. (같은 설정의 테스트끼리 컨텍스트 공유)
+ * 2차 캐시 hit / miss 는 hibernate Statistics (generate_statistics) 의 "user" region 값의 변화로 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=embedded",
+        "user.password.bcrypt-strength=4",
+        "user.last-login.flush-interval=PT1H",
+        "outbox.poll-interval=PT1H"
+})
+class UserServiceCacheTest {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("가입 트랜잭션 중에 캐시에 올라간 값은 커밋 후에 제거된다")
+    void registerEvictsUserCacheAfterCommit() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        var userId = transactionTemplate.execute(status -> {
+            var newEntity = userService.register(newUser(PASSWORD));
+            // 커밋 전에 다른 요청이 조회해서 캐시에 넣은 경우
+            userCache.put(toProfile(newEntity));
+            return newEntity.getId();
+        });
+
+        assertTrue(userCache.get(userId).isEmpty());
+        assertEquals(UserStatus.REGISTERED, userService.getUserProfileWithThrow(userId).status());
+        assertEquals(UserStatus.REGISTERED, userRepository.findById(userId).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("로그인 중 비밀번호를 다시 해시하면 UserCache 는 제거되고 2차 캐시는 새 해시를 돌려준다")
+    void rehashRefreshesCaches() {
+        // 해시 이전에 저장된 평문 비밀번호 -> 첫 로그인에서 다시 해시
+        var userId = userService.register(newUser(PASSWORD)).getId();
+        var email = userRepository.findById(userId).orElseThrow().getEmail();
+
+        userService.getUserProfileWithThrow(userId);
+        assertTrue(userCache.get(userId).isPresent());
+
+        userService.login(email, PASSWORD);
+
+        assertTrue(userCache.get(userId).isEmpty());
+        assertFalse(entityManagerFactory.getCache().contains(UserEntity.class, userId));
+        var storedPassword = userRepository.findById(userId).orElseThrow().getPassword();
+        assertFalse(passwordHasher.needsRehash(storedPassword));
+        assertTrue(passwordHasher.matches(PASSWORD, storedPassword));
+    }
+
+    @Test
+    @DisplayName("id 로 다시 읽으면 2차 캐시 hit 이고, status 를 바꾼 뒤에도 캐시는 새 status 를 돌려준다")
+    void secondLevelCacheServesFindByIdAndStaysCoherent() {
+        var userId = userService.register(newUser(PASSWORD)).getId();
+        // 가입 INSERT 가 넣어 둔 값은 비우고 조회로 채워지는지 본다.
+        entityManagerFactory.getCache().evict(UserEntity.class, userId);
+        var region = userRegionStatistics();
+
+        var hits = region.getHitCount();
+        var misses = region.getMissCount();
+        userRepository.findById(userId).orElseThrow();
+        assertEquals(misses + 1, region.getMissCount());
+        assertEquals(hits, region.getHitCount());
+
+        userRepository.findById(userId).orElseThrow();
+        assertEquals(misses + 1, region.getMissCount());
+        assertEquals(hits + 1, region.getHitCount());
+
+        // dirty checking 으로 status 변경 -> 커밋 시 READ_WRITE 캐시도 새 값으로 바뀐다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().setStatus(UserStatus.UNREGISTERED)
+        );
+
+        hits = region.getHitCount();
+        misses = region.getMissCount();
+        assertEquals(UserStatus.UNREGISTERED, userRepository.findById(userId).orElseThrow().getStatus());
+        assertEquals(misses, region.getMissCount());
+        assertEquals(hits + 1, region.getHitCount());
+    }
+
+    @Test
+    @DisplayName("비밀번호 갱신은 조회한 해시가 그대로일 때만 password 컬럼을 바꾼다")
+    void updatePasswordComparesAndSwaps() {
+        var userId = userService.register(newUser(PASSWORD)).getId();
+        var newPassword = passwordHasher.hash(PASSWORD);
+
+        assertFalse(userRepository.updatePassword(userId, "stale-password", newPassword));
+        assertTrue(userRepository.updatePassword(userId, PASSWORD, newPassword));
+
+        entityManagerFactory.getCache().evict(UserEntity.class, userId);
+        var stored = userRepository.findById(userId).orElseThrow();
+        assertEquals(newPassword, stored.getPassword());
+        assertEquals(UserStatus.REGISTERED, stored.getStatus());
+    }
+
+    private CacheRegionStatistics userRegionStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(UserEntity.CACHE_REGION);
+    }
+
+    private static UserEntity newUser(String password) {
+        return UserEntity.builder()
+                .name("cache-test")
+                .email(UUID.randomUUID() + "@cache.test")
+                .password(password)
+                .address("seoul")
+                .build();
+    }
+
+    private static UserProfile toProfile(UserEntity userEntity) {
+        return new UserProfile(
+                userEntity.getId(),
+                userEntity.getName(),
+                userEntity.getEmail(),
+                userEntity.getStatus(),
+                userEntity.getAddress(),
+                userEntity.getRegisteredAt(),
+                userEntity.getUnregisteredAt(),
+                LocalDateTime.now()
+        );
+    }
+}
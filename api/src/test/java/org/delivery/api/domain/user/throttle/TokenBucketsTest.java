@@ -0,0 +1,80 @@
+package org.delivery.api.domain.user.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketsTest {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 200;
+
+    // 테스트 중에는 회복되지 않도록 period 를 길게 잡는다.
+    private static final Duration PERIOD = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키로 동시에 시도해도 capacity 번만 허용된다")
+    void concurrentAcquireAllowsExactlyCapacity() throws Exception {
+        var capacity = 10;
+        var tokenBuckets = new TokenBuckets(new LoginThrottleProperties.Limit(capacity, PERIOD), 1_000);
+
+        assertEquals(capacity, acquireConcurrently(tokenBuckets, "user@test.com"));
+        assertEquals(1, tokenBuckets.size());
+    }
+
+    @Test
+    @DisplayName("키별로 따로 센다")
+    void keysAreIndependent() throws Exception {
+        var capacity = 5;
+        var tokenBuckets = new TokenBuckets(new LoginThrottleProperties.Limit(capacity, PERIOD), 1_000);
+
+        assertEquals(capacity, acquireConcurrently(tokenBuckets, "first@test.com"));
+        assertEquals(capacity, acquireConcurrently(tokenBuckets, "second@test.com"));
+    }
+
+    // 모든 스레드를 동시에 출발시켜 같은 키로 시도하고 허용된 횟수를 돌려준다.
+    private static int acquireConcurrently(TokenBuckets tokenBuckets, String key) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var ready = new CountDownLatch(THREADS);
+            var start = new CountDownLatch(1);
+
+            var futures = new ArrayList<Future<Integer>>();
+            for (var i = 0; i < THREADS; i++) {
+                Callable<Integer> attempt = () -> {
+                    ready.countDown();
+                    start.await();
+                    var acquired = 0;
+                    for (var j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                        if (tokenBuckets.tryAcquire(key)) {
+                            acquired++;
+                        }
+                    }
+                    return acquired;
+                };
+                futures.add(executor.submit(attempt));
+            }
+
+            assertTrue(ready.await(10, TimeUnit.SECONDS));
+            start.countDown();
+
+            var acquired = 0;
+            for (var future : futures) {
+                acquired += future.get(10, TimeUnit.SECONDS);
+            }
+            return acquired;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
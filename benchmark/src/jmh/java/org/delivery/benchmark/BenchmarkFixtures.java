@@ -0,0 +1,48 @@
+package org.delivery.benchmark;
+
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 공통 입력 데이터
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static UserRegisterRequest userRegisterRequest() {
+        return new UserRegisterRequest("홍길동", "hong@delivery.org", "서울시 강남구 테헤란로 1", "password1234!");
+    }
+
+    public static UserEntity userEntity() {
+        var now = LocalDateTime.of(2024, 6, 1, 12, 30);
+        return UserEntity.builder()
+                .id(123456789L)
+                .name("홍길동")
+                .email("hong@delivery.org")
+                .password("password1234!")
+                .status(UserStatus.REGISTERED)
+                .address("서울시 강남구 테헤란로 1")
+                .registeredAt(now)
+                .lastLoginAt(now)
+                .build();
+    }
+
+    public static UserResponse userResponse() {
+        var now = LocalDateTime.of(2024, 6, 1, 12, 30);
+        return UserResponse.builder()
+                .id(123456789L)
+                .name("홍길동")
+                .email("hong@delivery.org")
+                .status(UserStatus.REGISTERED)
+                .address("서울시 강남구 테헤란로 1")
+                .registeredAt(now)
+                .lastLoginAt(now)
+                .build();
+    }
+}
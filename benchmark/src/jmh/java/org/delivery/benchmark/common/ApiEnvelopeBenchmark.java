@@ -0,0 +1,41 @@
+package org.delivery.benchmark.common;
+
+import org.delivery.api.common.api.Api;
+import org.delivery.api.common.api.Result;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 응답이 거치는 Api / Result 생성 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiEnvelopeBenchmark {
+
+    private UserResponse userResponse;
+
+    @Setup
+    public void setUp() {
+        userResponse = BenchmarkFixtures.userResponse();
+    }
+
+    @Benchmark
+    public Result resultOk() {
+        return Result.OK();
+    }
+
+    @Benchmark
+    public Api<UserResponse> apiOk() {
+        return Api.OK(userResponse);
+    }
+}
@@ -0,0 +1,121 @@
+package org.delivery.benchmark.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.delivery.api.common.api.Api;
+import org.delivery.api.common.api.ApiHttpMessageConverter;
+import org.delivery.api.common.error.UserErrorCode;
+import org.delivery.api.config.objectMapper.ObjectMapperConfig;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObjectMapperConfig 의 ObjectMapper (snake_case + JavaTimeModule) 로 응답을 직렬화하는 비용
+ *
+ * jacksonConverter* : 기본 MappingJackson2HttpMessageConverter
+ * apiConverter*     : result 를 미리 직렬화해 둔 ApiHttpMessageConverter (gc.alloc.rate.norm 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Api<UserResponse> api;
+    private Api<Object> errorApi;
+    private Type apiType;
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private ApiHttpMessageConverter apiConverter;
+    private final ReusableOutputMessage outputMessage = new ReusableOutputMessage();
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+        api = Api.OK(BenchmarkFixtures.userResponse());
+        errorApi = Api.ERROR(UserErrorCode.USER_NOT_FOUND, UserErrorCode.USER_NOT_FOUND.getDescription());
+        apiType = objectMapper.getTypeFactory().constructParametricType(Api.class, UserResponse.class);
+
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        apiConverter = new ApiHttpMessageConverter(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] serializeApi() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(api);
+    }
+
+    @Benchmark
+    public byte[] createAndSerializeApi() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(Api.OK(api.getBody()));
+    }
+
+    @Benchmark
+    public int jacksonConverter() throws IOException {
+        jacksonConverter.write(Api.OK(api.getBody()), apiType, MediaType.APPLICATION_JSON, outputMessage.reset());
+        return outputMessage.size();
+    }
+
+    @Benchmark
+    public int apiConverter() throws IOException {
+        apiConverter.write(Api.OK(api.getBody()), apiType, MediaType.APPLICATION_JSON, outputMessage.reset());
+        return outputMessage.size();
+    }
+
+    @Benchmark
+    public int jacksonConverterError() throws IOException {
+        jacksonConverter.write(errorApi, Api.class, MediaType.APPLICATION_JSON, outputMessage.reset());
+        return outputMessage.size();
+    }
+
+    @Benchmark
+    public int apiConverterError() throws IOException {
+        apiConverter.write(errorApi, Api.class, MediaType.APPLICATION_JSON, outputMessage.reset());
+        return outputMessage.size();
+    }
+
+    /**
+     * 응답 버퍼를 재사용해서 converter 자체의 할당만 측정
+     */
+    private static class ReusableOutputMessage implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        ReusableOutputMessage reset() {
+            body.reset();
+            headers.clear();
+            return this;
+        }
+
+        int size() {
+            return body.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.delivery.benchmark.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.delivery.api.filter.AsyncHttpLogWriter;
+import org.delivery.api.filter.HttpLogRedactor;
+import org.delivery.api.filter.LoggerFilter;
+import org.delivery.api.filter.LoggerFilterProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggerFilter 가 요청 스레드에 더하는 비용
+ *
+ * none  : 필터 없이 체인만 실행 (기준값)
+ * sync  : 기존 방식
+ * async : 링 버퍼 + 백그라운드 writer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggerFilterBenchmark {
+
+    private static final byte[] REQUEST_BODY = ("{\"result\":null,\"body\":{\"name\":\"홍길동\",\"email\":\"hong@delivery.org\","
+            + "\"address\":\"서울시 강남구 테헤란로 1\",\"password\":\"password1234!\"}}").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] RESPONSE_BODY = ("{\"result\":{\"result_code\":200,\"result_message\":\"성공\",\"result_description\":\"성공\"},"
+            + "\"body\":{\"id\":123456789,\"name\":\"홍길동\",\"email\":\"hong@delivery.org\",\"status\":\"REGISTERED\","
+            + "\"address\":\"서울시 강남구 테헤란로 1\",\"registered_at\":\"2024-06-01T12:30:00\"}}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"none", "sync", "async"})
+    private String mode;
+
+    private LoggerFilter loggerFilter;
+    private AsyncHttpLogWriter asyncHttpLogWriter;
+
+    // 컨트롤러 대신 요청 바디를 읽고 응답 바디를 쓴다.
+    private final FilterChain filterChain = (request, response) -> {
+        StreamUtils.drain(request.getInputStream());
+        response.setContentType("application/json");
+        response.getOutputStream().write(RESPONSE_BODY);
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var properties = new LoggerFilterProperties();
+        properties.setMode("async".equals(mode) ? LoggerFilterProperties.Mode.ASYNC : LoggerFilterProperties.Mode.SYNC);
+
+        var redactor = new HttpLogRedactor(properties);
+        asyncHttpLogWriter = new AsyncHttpLogWriter(properties, redactor, new SimpleMeterRegistry());
+        asyncHttpLogWriter.start();
+        loggerFilter = new LoggerFilter(properties, asyncHttpLogWriter, redactor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        asyncHttpLogWriter.stop();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws IOException, ServletException {
+        var request = new MockHttpServletRequest("POST", "/open-api/user/register");
+        request.setContentType("application/json");
+        request.addHeader("User-Agent", "jmh");
+        request.setContent(REQUEST_BODY);
+        var response = new MockHttpServletResponse();
+
+        if ("none".equals(mode)) {
+            filterChain.doFilter(request, response);
+        } else {
+            loggerFilter.doFilter(request, response, filterChain);
+        }
+        return response;
+    }
+}
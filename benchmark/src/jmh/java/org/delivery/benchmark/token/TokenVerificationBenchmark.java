@@ -0,0 +1,51 @@
+package org.delivery.benchmark.token;
+
+import org.delivery.api.domain.token.cache.VerifiedTokenCache;
+import org.delivery.api.domain.token.helper.JwtTokenHelper;
+import org.delivery.api.domain.token.service.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthorizationInterceptor 가 요청마다 치르는 토큰 검증 비용
+ *
+ * signatureVerification : 캐시 미스 (HS256 서명 계산 + claim 파싱)
+ * cachedVerification    : 최근 검증된 토큰 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenVerificationBenchmark {
+
+    private JwtTokenHelper jwtTokenHelper;
+    private TokenService tokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenHelper = new JwtTokenHelper("SpringBootJWTHelperTokenSecretKeyValue123!!", 1L, 12L);
+        tokenService = new TokenService(jwtTokenHelper, new VerifiedTokenCache(100_000, Duration.ofMinutes(10)));
+        accessToken = tokenService.issueAccessToken(1L).getToken();
+
+        // 캐시 적중 경로를 측정하기 위해 한 번 검증해 둔다.
+        tokenService.validationAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Object signatureVerification() {
+        return jwtTokenHelper.validationTokenWithThrow(accessToken);
+    }
+
+    @Benchmark
+    public Long cachedVerification() {
+        return tokenService.validationAccessToken(accessToken);
+    }
+}
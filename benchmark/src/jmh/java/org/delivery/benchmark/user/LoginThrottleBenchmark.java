@@ -0,0 +1,114 @@
+package org.delivery.benchmark.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.user.throttle.LoginThrottle;
+import org.delivery.api.domain.user.throttle.LoginThrottleProperties;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoginThrottle 동시성 / 처리량
+ *
+ * hotKey       : 16 스레드가 같은 email 하나로 시도 (같은 bucket 에 CAS 경쟁)
+ * distinctKeys : 16 스레드가 10만 개 email 에 나누어 시도
+ *
+ * hotKey 는 매 iteration 끝에 허용된 횟수가 capacity + 경과 시간 / 간격 을 넘지 않는지 확인하고,
+ * 넘으면 예외로 벤치마크를 실패시킨다. (허용 횟수가 정확히 지켜지는지 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class LoginThrottleBenchmark {
+
+    private static final int CAPACITY = 1_000;
+    private static final Duration PERIOD = Duration.ofSeconds(1);
+    private static final int EMAIL_COUNT = 100_000;
+    private static final String HOT_EMAIL = "hot@delivery.org";
+
+    private LoginThrottle loginThrottle;
+    private String[] emails;
+
+    private final LongAdder hotKeyAccepted = new LongAdder();
+    private long trialStartNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var properties = new LoginThrottleProperties();
+        properties.setEmail(new LoginThrottleProperties.Limit(CAPACITY, PERIOD));
+        properties.setMaxKeys(EMAIL_COUNT);
+        loginThrottle = new LoginThrottle(properties, new SimpleMeterRegistry());
+
+        emails = new String[EMAIL_COUNT];
+        for (int i = 0; i < EMAIL_COUNT; i++) {
+            emails[i] = "user" + i + "@delivery.org";
+        }
+        trialStartNanos = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyHotKeyLimit() {
+        var accepted = hotKeyAccepted.sum();
+        if (accepted == 0) {
+            return;
+        }
+
+        var intervalNanos = PERIOD.toNanos() / CAPACITY;
+        var allowed = CAPACITY + (System.nanoTime() - trialStartNanos) / intervalNanos + 1;
+        if (accepted > allowed) {
+            throw new IllegalStateException("throttle 허용 횟수 초과 : accepted=" + accepted + ", allowed=" + allowed);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Attempts {
+        public long accepted;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            accepted = 0;
+            rejected = 0;
+        }
+    }
+
+    @Benchmark
+    public void hotKey(Attempts attempts) {
+        // ip 는 넘기지 않아 email bucket 만 측정
+        if (tryLogin(HOT_EMAIL, attempts)) {
+            hotKeyAccepted.increment();
+        }
+    }
+
+    @Benchmark
+    public void distinctKeys(Attempts attempts) {
+        tryLogin(emails[ThreadLocalRandom.current().nextInt(EMAIL_COUNT)], attempts);
+    }
+
+    private boolean tryLogin(String email, Attempts attempts) {
+        try {
+            loginThrottle.acquire(email, null);
+            attempts.accepted++;
+            return true;
+        } catch (ApiException e) {
+            attempts.rejected++;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.delivery.benchmark.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.api.domain.user.converter.UserConverter;
+import org.delivery.api.domain.user.password.PasswordHashProperties;
+import org.delivery.api.domain.user.password.PasswordHasher;
+import org.delivery.benchmark.BenchmarkFixtures;
+import org.delivery.db.user.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * toEntity 는 bcrypt 해시를 포함하므로 최소 cost(4) 로 측정한다. (실제 cost 의 해시 비용은 2^(cost-4) 배)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserConverterBenchmark {
+
+    private PasswordHasher passwordHasher;
+    private UserConverter userConverter;
+    private UserRegisterRequest request;
+    private UserEntity userEntity;
+
+    @Setup
+    public void setUp() {
+        var passwordHashProperties = new PasswordHashProperties();
+        passwordHashProperties.setBcryptStrength(4);
+        passwordHasher = new PasswordHasher(passwordHashProperties, new SimpleMeterRegistry());
+
+        // UserRepository 는 변환에 사용되지 않는다.
+        userConverter = new UserConverter(null, passwordHasher);
+        request = BenchmarkFixtures.userRegisterRequest();
+        userEntity = BenchmarkFixtures.userEntity();
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public UserEntity toEntity() {
+        return userConverter.toEntity(request);
+    }
+
+    @Benchmark
+    public UserResponse toResponse() {
+        return userConverter.toResponse(userEntity);
+    }
+}
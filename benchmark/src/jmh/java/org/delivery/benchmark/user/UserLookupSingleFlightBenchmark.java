@@ -0,0 +1,97 @@
+package org.delivery.benchmark.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.delivery.api.domain.user.cache.UserProfileSingleFlight;
+import org.delivery.benchmark.BenchmarkFixtures;
+import org.delivery.db.user.UserProfile;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캐시 miss 가 한꺼번에 몰릴 때 (thundering herd) single-flight 로 줄어드는 DB 조회 수
+ *
+ * 32 스레드가 hotKeys 개의 사용자 id 를 계속 조회하고, 조회 한 번은 queryMicros 동안 기다리는 것으로 흉내낸다. (캐시 없음 = 매번 miss)
+ * direct       : 매 요청이 직접 조회 (기존 방식)
+ * singleFlight : UserProfileSingleFlight 로 같은 id 의 동시 조회를 합침
+ *
+ * 보조 카운터 queries / lookups 비율이 요청당 실제 조회 수이다. (direct 는 항상 1)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class UserLookupSingleFlightBenchmark {
+
+    @Param({"1", "16", "1024"})
+    private int hotKeys;
+
+    @Param({"500"})
+    private long queryMicros;
+
+    private UserProfileSingleFlight singleFlight;
+    private UserProfile userProfile;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        singleFlight = new UserProfileSingleFlight(Duration.ofSeconds(2), new SimpleMeterRegistry());
+        var userEntity = BenchmarkFixtures.userEntity();
+        userProfile = new UserProfile(
+                userEntity.getId(),
+                userEntity.getName(),
+                userEntity.getEmail(),
+                userEntity.getStatus(),
+                userEntity.getAddress(),
+                userEntity.getRegisteredAt(),
+                userEntity.getUnregisteredAt(),
+                userEntity.getLastLoginAt()
+        );
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Lookups {
+        public long lookups;
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            queries = 0;
+        }
+    }
+
+    @Benchmark
+    public UserProfile direct(Lookups lookups) {
+        lookups.lookups++;
+        return query(lookups);
+    }
+
+    @Benchmark
+    public UserProfile singleFlight(Lookups lookups) {
+        lookups.lookups++;
+        var userId = (long) ThreadLocalRandom.current().nextInt(hotKeys);
+        // loader 는 leader 스레드에서만 실행되므로 leader 의 카운터만 올라간다.
+        return singleFlight.execute(userId, () -> query(lookups));
+    }
+
+    // findProfileByIdAndStatus 한 번 (네트워크 + DB 대기)
+    private UserProfile query(Lookups lookups) {
+        lookups.queries++;
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(queryMicros));
+        return userProfile;
+    }
+}
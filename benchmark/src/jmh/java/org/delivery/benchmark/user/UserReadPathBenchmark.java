@@ -0,0 +1,117 @@
+package org.delivery.benchmark.user;
+
+import org.delivery.api.ApiApplication;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.api.domain.user.converter.UserConverter;
+import org.delivery.db.user.UserEntity;
+import org.delivery.db.user.UserRepository;
+import org.delivery.db.user.enums.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 조회 경로 : UserEntity 조회 후 변환 vs UserProfile projection 조회 후 변환
+ *
+ * embedded(H2) 프로파일로 저장소를 띄우고 UserRepository 를 직접 호출한다.
+ * entity* 는 password 포함 전체 컬럼 + 영속성 컨텍스트 등록, profile* 은 응답 컬럼만 DTO 로 받는다.
+ * gc.alloc.rate.norm 으로 요청당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserReadPathBenchmark {
+
+    @Param({"1000"})
+    private int users;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserConverter userConverter;
+    private Long[] userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .profiles("embedded")
+                .properties(
+                        "server.port=0",
+                        "logger-filter.sample-rate=0"
+                )
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        userConverter = context.getBean(UserConverter.class);
+
+        var now = LocalDateTime.now();
+        var entities = new ArrayList<UserEntity>(users);
+        for (int i = 0; i < users; i++) {
+            entities.add(UserEntity.builder()
+                    .name("user" + i)
+                    .email("read" + i + "@delivery.org")
+                    .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234") // bcrypt 길이의 값
+                    .status(UserStatus.REGISTERED)
+                    .address("서울시 강남구 테헤란로 " + i)
+                    .registeredAt(now)
+                    .lastLoginAt(now)
+                    .build());
+        }
+        userIds = userRepository.saveAll(entities).stream()
+                .map(UserEntity::getId)
+                .toArray(Long[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponse entityById() {
+        var userEntity = userRepository.findFirstByIdAndStatusOrderByIdDesc(randomId(), UserStatus.REGISTERED).orElseThrow();
+        return userConverter.toResponse(userEntity);
+    }
+
+    @Benchmark
+    public UserResponse profileById() {
+        var userProfile = userRepository.findProfileByIdAndStatus(randomId(), UserStatus.REGISTERED).orElseThrow();
+        return userConverter.toResponse(userProfile);
+    }
+
+    @Benchmark
+    public List<UserResponse> entityPage() {
+        return userRepository.findAllByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, pageSize)).stream()
+                .map(userConverter::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<UserResponse> profilePage() {
+        return userRepository.findProfilesByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, pageSize)).stream()
+                .map(userConverter::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private Long randomId() {
+        return userIds[ThreadLocalRandom.current().nextInt(userIds.length)];
+    }
+}
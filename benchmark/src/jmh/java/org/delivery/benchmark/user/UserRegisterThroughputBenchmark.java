@@ -0,0 +1,123 @@
+package org.delivery.benchmark.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.delivery.api.ApiApplication;
+import org.delivery.api.interceptor.AdminProperties;
+import org.delivery.api.interceptor.AuthorizationInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입 처리량 비교 : /open-api/user/register 를 N 번 호출 vs /api/user/register/bulk 를 1 번 호출
+ *
+ * embedded(H2) 프로파일로 ApiApplication 을 띄우고 HTTP 로 호출한다.
+ * 일괄 가입은 관리자 API 이므로 시작할 때 가입 / 로그인한 사용자를 admin.user-ids 에 추가하고 그 토큰으로 호출한다.
+ * 한 번의 측정(op)이 users 명을 가입시키므로 사용자당 시간은 결과를 users 로 나눈 값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserRegisterThroughputBenchmark {
+
+    @Param({"1000"})
+    private int users;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI registerUri;
+    private URI bulkRegisterUri;
+    private String adminToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .profiles("embedded")
+                .properties(
+                        "server.port=0",
+                        "logger-filter.mode=async",
+                        "logger-filter.sample-rate=0"
+                )
+                .run();
+
+        var port = context.getEnvironment().getProperty("local.server.port");
+        registerUri = URI.create("http://localhost:" + port + "/open-api/user/register");
+        bulkRegisterUri = URI.create("http://localhost:" + port + "/api/user/register/bulk");
+        httpClient = HttpClient.newHttpClient();
+
+        // 관리자 등록 : 가입 -> admin.user-ids 추가 -> 로그인 토큰
+        var objectMapper = context.getBean(ObjectMapper.class);
+        var admin = "admin" + System.nanoTime();
+        var registered = objectMapper.readTree(post(registerUri, "{\"body\":" + user(admin) + "}", null));
+        context.getBean(AdminProperties.class).getUserIds().add(registered.path("body").path("id").asLong());
+
+        var loginUri = URI.create("http://localhost:" + port + "/open-api/user/login");
+        var login = objectMapper.readTree(post(loginUri,
+                "{\"body\":{\"email\":\"" + admin + "@bench.org\",\"password\":\"password" + admin + "\"}}", null));
+        adminToken = login.path("body").path("access_token").asText();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleCalls() throws IOException, InterruptedException {
+        for (int i = 0; i < users; i++) {
+            post(registerUri, "{\"body\":" + user("user" + sequence.incrementAndGet()) + "}", null);
+        }
+    }
+
+    @Benchmark
+    public void bulkCall() throws IOException, InterruptedException {
+        var body = new StringBuilder(users * 120).append("{\"body\":[");
+        for (int i = 0; i < users; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(user("user" + sequence.incrementAndGet()));
+        }
+        body.append("]}");
+
+        post(bulkRegisterUri, body.toString(), adminToken);
+    }
+
+    private String post(URI uri, String body, String token) throws IOException, InterruptedException {
+        var builder = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header(AuthorizationInterceptor.AUTHORIZATION_TOKEN_HEADER, token);
+        }
+
+        var response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode() + " : " + uri);
+        }
+        return response.body();
+    }
+
+    private String user(String name) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + name + "@bench.org\",\"address\":\"seoul\",\"password\":\"password" + name + "\"}";
+    }
+}
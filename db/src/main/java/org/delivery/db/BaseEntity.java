@@ -4,9 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.delivery.db.id.SnowflakeIdentifierGenerator;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
 
@@ -49,11 +50,13 @@ public class BaseEntity {
      * 이 필드가 엔티티의 기본 키임을 나타냅니다.
      */
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdentifierGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdentifierGenerator.NAME, strategy = SnowflakeIdentifierGenerator.STRATEGY)
     /**
-     * @GeneratedValue:
-     * 기본 키 값을 자동으로 생성해주는 전략을 설정합니다.
-     * GenerationType.IDENTITY는 데이터베이스의 자동 증가 컬럼(AUTO_INCREMENT)을 사용하여 기본 키를 생성합니다.
+     * @GeneratedValue, @GenericGenerator:
+     * 기본 키 값을 애플리케이션에서 생성합니다. (시간순 정렬 가능한 64bit Snowflake id)
+     * GenerationType.IDENTITY는 INSERT 를 실행해야 id 를 알 수 있어 Hibernate 가 INSERT 를 batch 로 묶지 못하지만,
+     * 미리 생성한 id 를 사용하면 hibernate.jdbc.batch_size 설정대로 여러 INSERT 를 한 번에 전송할 수 있습니다.
      */
     private Long id;
 }
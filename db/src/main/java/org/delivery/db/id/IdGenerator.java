@@ -0,0 +1,11 @@
+package org.delivery.db.id;
+
+/**
+ * 애플리케이션에서 엔티티 기본 키를 미리 만들어 주는 생성기
+ *
+ * IDENTITY 전략과 달리 INSERT 전에 id 를 알 수 있으므로 Hibernate 가 INSERT 를 JDBC batch 로 묶을 수 있다.
+ * 구현체는 SnowflakeIdentifierGenerator 가 Hibernate 설정(delivery.id.generator)으로 교체할 수 있다.
+ */
+public interface IdGenerator {
+    long nextId();
+}
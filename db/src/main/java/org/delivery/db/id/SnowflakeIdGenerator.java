@@ -0,0 +1,86 @@
+package org.delivery.db.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬이 가능한 64bit id 생성기 (Snowflake 방식)
+ *
+ * | 1bit 0 | 41bit epoch 이후 ms | 10bit node id | 12bit sequence |
+ *
+ * - node 당 ms 마다 4096 개까지 발급하고, 소진되면 다음 ms 까지 기다린다.
+ * - 시계가 maxBackwardMillis 이내로 뒤로 가면 마지막 timestamp 를 그대로 이어서 사용하고,
+ *   그보다 크게 뒤로 가면 중복 id 를 만들지 않도록 예외를 던진다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long DEFAULT_EPOCH_MILLI = 1704067200000L;
+    public static final long DEFAULT_MAX_BACKWARD_MILLIS = 5_000L;
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final long epochMilli;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, DEFAULT_EPOCH_MILLI, DEFAULT_MAX_BACKWARD_MILLIS, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long epochMilli, long maxBackwardMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + " : " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.epochMilli = epochMilli;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        var timestamp = clock.getAsLong();
+
+        if (timestamp < lastTimestamp) {
+            var backward = lastTimestamp - timestamp;
+            if (backward > maxBackwardMillis) {
+                throw new IllegalStateException("clock moved backwards " + backward + "ms, refusing to generate id");
+            }
+            // 작은 역행은 마지막 timestamp 를 이어서 사용 (논리 시계)
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 의 sequence 를 다 쓴 경우 다음 ms 까지 대기
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - epochMilli) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        var timestamp = clock.getAsLong();
+        while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
+            timestamp = clock.getAsLong();
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,57 @@
+package org.delivery.db.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * IdGenerator 를 Hibernate 식별자 생성기로 연결하는 어댑터
+ *
+ * Hibernate 설정 (spring.jpa.properties.*)
+ * - delivery.id.node-id : 노드 id (0 ~ 1023), 노드마다 달라야 한다.
+ * - delivery.id.generator : IdGenerator 구현체 클래스명 (기본 SnowflakeIdGenerator)
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "snowflake";
+    public static final String STRATEGY = "org.delivery.db.id.SnowflakeIdentifierGenerator";
+
+    public static final String NODE_ID_SETTING = "delivery.id.node-id";
+    public static final String GENERATOR_SETTING = "delivery.id.generator";
+
+    private IdGenerator idGenerator;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        var settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+
+        var generatorClass = settings.get(GENERATOR_SETTING);
+        if (generatorClass != null) {
+            idGenerator = newInstance(generatorClass.toString());
+            return;
+        }
+
+        var nodeId = settings.getOrDefault(NODE_ID_SETTING, "0");
+        idGenerator = new SnowflakeIdGenerator(Long.parseLong(nodeId.toString()));
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return idGenerator.nextId();
+    }
+
+    private IdGenerator newInstance(String className) {
+        try {
+            return (IdGenerator) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new MappingException("IdGenerator 생성 실패 : " + className, e);
+        }
+    }
+}
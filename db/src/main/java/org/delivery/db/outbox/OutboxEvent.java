@@ -0,0 +1,16 @@
+package org.delivery.db.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * relay 가 가져간 발행 대상 이벤트 (엔티티가 아닌 불변 값)
+ */
+public record OutboxEvent(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
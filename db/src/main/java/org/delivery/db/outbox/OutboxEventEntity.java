@@ -0,0 +1,58 @@
+package org.delivery.db.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.delivery.db.BaseEntity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Represents an event waiting to be published to other services (transactional outbox).
+ * Written in the same transaction as the aggregate change and deleted by the relay after publishing.
+ * The Snowflake id doubles as the publish order.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class OutboxEventEntity extends BaseEntity {
+
+    /**
+     * The type of the aggregate the event belongs to. (e.g. USER)
+     */
+    @Column(length = 50, nullable = false)
+    private String aggregateType;
+
+    /**
+     * The id of the aggregate. Events of the same aggregate are published in id order.
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /**
+     * The type of the event. (e.g. REGISTERED)
+     */
+    @Column(length = 50, nullable = false)
+    private String eventType;
+
+    /**
+     * The event body as json.
+     */
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;
+
+    /**
+     * The timestamp when the event was written.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
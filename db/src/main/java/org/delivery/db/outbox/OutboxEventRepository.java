@@ -0,0 +1,7 @@
+package org.delivery.db.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 저장은 JPA (업무 트랜잭션에 참여), relay 의 조회 / 삭제는 JDBC (OutboxRelayRepository)
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long>, OutboxRelayRepository {
+}
@@ -0,0 +1,33 @@
+package org.delivery.db.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * outbox relay 용 조회 / 삭제 (OutboxEventRepository fragment)
+ *
+ * claim 으로 잡은 행 잠금은 호출한 트랜잭션이 끝날 때 풀리므로, 발행과 삭제를 같은 트랜잭션 안에서 호출해야 한다.
+ */
+public interface OutboxRelayRepository {
+
+    /**
+     * id 순서로 최대 limit 개를 잠그고 가져온다. (FOR UPDATE SKIP LOCKED)
+     *
+     * 다른 relay 가 잠근 행은 건너뛰므로 여러 인스턴스가 동시에 실행해도 같은 이벤트를 가져가지 않는다.
+     * 같은 aggregate 에 아직 발행되지 않은 더 앞선 이벤트(다른 relay 가 잡고 있는)가 있으면 그 aggregate 의 이벤트는 제외한다.
+     */
+    List<OutboxEvent> claimBatch(int limit);
+
+    /**
+     * 발행한 이벤트를 한 문장으로 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteByIds(List<Long> ids);
+
+    /**
+     * 가장 오래된 미발행 이벤트의 생성 시각 (relay 지연 측정용, 잠긴 행 포함)
+     */
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
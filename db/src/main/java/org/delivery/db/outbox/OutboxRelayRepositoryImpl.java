@@ -0,0 +1,100 @@
+package org.delivery.db.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class OutboxRelayRepositoryImpl implements OutboxRelayRepository {
+
+    private static final String CLAIM_SQL =
+            "select id, aggregate_type, aggregate_id, event_type, payload, created_at from outbox_event"
+                    + " order by id limit ? for update skip locked";
+
+    // 잠금 없이 읽으므로 다른 relay 가 잡고 있는 행도 보인다.
+    private static final String FIRST_PENDING_SQL =
+            "select aggregate_type, aggregate_id, min(id) as first_id from outbox_event"
+                    + " where aggregate_id in (:aggregateIds) group by aggregate_type, aggregate_id";
+
+    private static final String DELETE_SQL = "delete from outbox_event where id in (:ids)";
+
+    private static final String OLDEST_CREATED_AT_SQL = "select created_at from outbox_event order by id limit 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public OutboxRelayRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public List<OutboxEvent> claimBatch(int limit) {
+        var claimed = jdbcTemplate.query(CLAIM_SQL, (resultSet, rowNum) -> toEvent(resultSet), limit);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        // aggregate 별로 이번에 잡은 첫 이벤트가 전체에서도 첫 이벤트인 경우만 발행 대상
+        var claimedFirstIds = new LinkedHashMap<String, Long>();
+        claimed.forEach(it -> claimedFirstIds.putIfAbsent(aggregateKey(it.aggregateType(), it.aggregateId()), it.id()));
+
+        var aggregateIds = claimed.stream().map(OutboxEvent::aggregateId).distinct().toList();
+        var pendingFirstIds = new HashMap<String, Long>();
+        namedParameterJdbcTemplate.query(FIRST_PENDING_SQL, Map.of("aggregateIds", aggregateIds), resultSet -> {
+            pendingFirstIds.put(
+                    aggregateKey(resultSet.getString("aggregate_type"), resultSet.getLong("aggregate_id")),
+                    resultSet.getLong("first_id")
+            );
+        });
+
+        var ready = new ArrayList<OutboxEvent>(claimed.size());
+        for (var event : claimed) {
+            var key = aggregateKey(event.aggregateType(), event.aggregateId());
+            var pendingFirstId = pendingFirstIds.getOrDefault(key, event.id());
+            if (pendingFirstId >= claimedFirstIds.get(key)) {
+                ready.add(event);
+            }
+        }
+        return ready;
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        return jdbcTemplate.query(OLDEST_CREATED_AT_SQL, (resultSet, rowNum) -> resultSet.getTimestamp(1).toLocalDateTime())
+                .stream()
+                .findFirst();
+    }
+
+    private OutboxEvent toEvent(ResultSet resultSet) throws SQLException {
+        return new OutboxEvent(
+                resultSet.getLong("id"),
+                resultSet.getString("aggregate_type"),
+                resultSet.getLong("aggregate_id"),
+                resultSet.getString("event_type"),
+                resultSet.getString("payload"),
+                resultSet.getTimestamp("created_at").toLocalDateTime()
+        );
+    }
+
+    private static String aggregateKey(String aggregateType, Long aggregateId) {
+        return aggregateType + ":" + aggregateId;
+    }
+}
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.delivery.db.BaseEntity;
 import org.delivery.db.user.enums.UserStatus;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -14,9 +16,15 @@ import java.time.LocalDateTime;
 /**
  * Represents a user entity in the system.
  * Extends the BaseEntity class to include common entity fields.
+ * Cached in the Hibernate second-level cache region "user" (see ehcache.xml).
+ * Only loads by primary key use it: JpaRepository.findById and the lookup behind save().
+ * Application reads go through the UserProfile projection and UserCache instead,
+ * so the region mainly serves write paths that load the entity by id.
  */
 @Entity
 @Table(name = "user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserEntity.CACHE_REGION)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -24,6 +32,8 @@ import java.time.LocalDateTime;
 @SuperBuilder
 public class UserEntity extends BaseEntity {
 
+    public static final String CACHE_REGION = "user";
+
     /**
      * The name of the user.
      */
@@ -0,0 +1,22 @@
+package org.delivery.db.user;
+
+import java.util.function.Consumer;
+
+/**
+ * 전체 사용자 내보내기용 조회 (UserRepository fragment)
+ */
+public interface UserExportRepository {
+
+    /**
+     * 전체 사용자를 id 오름차순으로 한 행씩 consumer 에 전달
+     *
+     * 결과를 메모리에 모으지 않고 forward-only JDBC 커서로 fetchSize 만큼씩 가져오며,
+     * 트랜잭션 없이 (auto commit) 실행된다. password 는 조회하지 않는다.
+     */
+    void streamAll(int fetchSize, Consumer<UserProfile> consumer);
+
+    /**
+     * 전체 사용자의 email 만 한 행씩 consumer 에 전달 (streamAll 과 같은 커서 조회)
+     */
+    void streamEmails(int fetchSize, Consumer<String> consumer);
+}
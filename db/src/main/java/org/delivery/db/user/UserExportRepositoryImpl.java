@@ -0,0 +1,87 @@
+package org.delivery.db.user;
+
+import org.delivery.db.user.enums.UserStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public class UserExportRepositoryImpl implements UserExportRepository {
+
+    private static final String STREAM_ALL_SQL =
+            "select id, name, email, status, address, registered_at, unregistered_at, last_login_at from user order by id";
+
+    private static final String STREAM_EMAILS_SQL = "select email from user";
+
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 인 문장만 행 단위로 스트리밍한다.
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final DataSource dataSource;
+
+    private volatile Boolean mysql;
+
+    public UserExportRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void streamAll(int fetchSize, Consumer<UserProfile> consumer) {
+        jdbcTemplate(fetchSize).query(STREAM_ALL_SQL, (RowCallbackHandler) resultSet -> {
+            consumer.accept(toProfile(resultSet));
+        });
+    }
+
+    @Override
+    public void streamEmails(int fetchSize, Consumer<String> consumer) {
+        jdbcTemplate(fetchSize).query(STREAM_EMAILS_SQL, (RowCallbackHandler) resultSet -> {
+            consumer.accept(resultSet.getString(1));
+        });
+    }
+
+    // 전역 URL 의 useCursorFetch 없이 이 조회만 스트리밍한다.
+    // 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 consumer 는 DB 를 건드리지 않아야 한다.
+    private JdbcTemplate jdbcTemplate(int fetchSize) {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(isMysql() ? MYSQL_STREAMING_FETCH_SIZE : fetchSize);
+        return jdbcTemplate;
+    }
+
+    private boolean isMysql() {
+        var cached = mysql;
+        if (cached == null) {
+            try {
+                String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                cached = "MySQL".equalsIgnoreCase(productName);
+            } catch (MetaDataAccessException e) {
+                cached = false;
+            }
+            mysql = cached;
+        }
+        return cached;
+    }
+
+    private UserProfile toProfile(ResultSet resultSet) throws SQLException {
+        return new UserProfile(
+                resultSet.getLong("id"),
+                resultSet.getString("name"),
+                resultSet.getString("email"),
+                UserStatus.valueOf(resultSet.getString("status")),
+                resultSet.getString("address"),
+                toLocalDateTime(resultSet.getTimestamp("registered_at")),
+                toLocalDateTime(resultSet.getTimestamp("unregistered_at")),
+                toLocalDateTime(resultSet.getTimestamp("last_login_at"))
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,19 @@
+package org.delivery.db.user;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 마지막 로그인 시각 일괄 갱신 (UserRepository fragment)
+ */
+public interface UserLastLoginRepository {
+
+    /**
+     * 사용자별 마지막 로그인 시각을 JDBC batch UPDATE 로 갱신
+     *
+     * 이미 더 최근 시각이 저장되어 있으면 덮어쓰지 않는다. (여러 인스턴스가 같은 사용자를 갱신하는 경우)
+     *
+     * @return 갱신된 행 수
+     */
+    int updateLastLoginAt(Map<Long, LocalDateTime> lastLoginAtByUserId, int batchSize);
+}
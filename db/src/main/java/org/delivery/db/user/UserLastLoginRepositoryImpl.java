@@ -0,0 +1,46 @@
+package org.delivery.db.user;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+public class UserLastLoginRepositoryImpl implements UserLastLoginRepository {
+
+    private static final String UPDATE_LAST_LOGIN_AT_SQL =
+            "update user set last_login_at = ? where id = ? and (last_login_at is null or last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserLastLoginRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public int updateLastLoginAt(Map<Long, LocalDateTime> lastLoginAtByUserId, int batchSize) {
+        if (lastLoginAtByUserId.isEmpty()) {
+            return 0;
+        }
+
+        // rewriteBatchedStatements=true 이므로 batchSize 개씩 한 번에 전송된다.
+        var entries = new ArrayList<>(lastLoginAtByUserId.entrySet());
+        var results = jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_AT_SQL, entries, batchSize, (ps, entry) -> {
+            var lastLoginAt = Timestamp.valueOf(entry.getValue());
+            ps.setTimestamp(1, lastLoginAt);
+            ps.setLong(2, entry.getKey());
+            ps.setTimestamp(3, lastLoginAt);
+        });
+
+        var updated = 0;
+        for (var batch : results) {
+            for (var count : batch) {
+                // rewrite 된 batch 는 행별 결과 대신 SUCCESS_NO_INFO(-2) 를 돌려줄 수 있다.
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,17 @@
+package org.delivery.db.user;
+
+/**
+ * 비밀번호 해시 갱신 (UserRepository fragment)
+ */
+public interface UserPasswordRepository {
+
+    /**
+     * 저장된 해시가 expectedPassword 와 같을 때만 newPassword 로 바꾼다. (compare-and-swap)
+     *
+     * password 컬럼만 갱신하므로 다른 컬럼(status, last_login_at) 을 조회 시점의 값으로 덮어쓰지 않는다.
+     * 그 사이 다른 요청이 비밀번호를 바꿨다면 갱신하지 않는다.
+     *
+     * @return 갱신 여부
+     */
+    boolean updatePassword(Long userId, String expectedPassword, String newPassword);
+}
@@ -0,0 +1,22 @@
+package org.delivery.db.user;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+public class UserPasswordRepositoryImpl implements UserPasswordRepository {
+
+    private static final String UPDATE_PASSWORD_SQL =
+            "update user set password = ? where id = ? and password = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserPasswordRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public boolean updatePassword(Long userId, String expectedPassword, String newPassword) {
+        return jdbcTemplate.update(UPDATE_PASSWORD_SQL, newPassword, userId, expectedPassword) > 0;
+    }
+}
@@ -0,0 +1,23 @@
+package org.delivery.db.user;
+
+import org.delivery.db.user.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 조회 전용 projection (password 제외, 응답에 필요한 컬럼만)
+ *
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 dirty checking 대상도 아니다.
+ * 불변 값이라 캐시에 그대로 넣고 꺼내도 된다.
+ */
+public record UserProfile(
+        Long id,
+        String name,
+        String email,
+        UserStatus status,
+        String address,
+        LocalDateTime registeredAt,
+        LocalDateTime unregisteredAt,
+        LocalDateTime lastLoginAt
+) {
+}
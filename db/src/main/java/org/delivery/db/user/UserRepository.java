@@ -1,14 +1,42 @@
 package org.delivery.db.user;
 
 import org.delivery.db.user.enums.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+// 조회 메서드는 읽기 전용 트랜잭션으로 실행 (라우팅 DataSource 사용 시 replica 로 전달)
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserExportRepository, UserLastLoginRepository, UserPasswordRepository {
     // select * from user where id = ? and status = ? order by id desc
+    @Transactional(readOnly = true)
     Optional<UserEntity> findFirstByIdAndStatusOrderByIdDesc(Long userId, UserStatus status);
 
-    // select * from user where email = ? and password = ? ad status = ? order by id desc limit 1
-    Optional<UserEntity> findFirstByEmailAndPasswordAndStatusOrderByIdDesc(String email, String password, UserStatus status);
+    // select * from user where email = ? and status = ? order by id desc limit 1 (비밀번호는 bcrypt 로 애플리케이션에서 확인)
+    @Transactional(readOnly = true)
+    Optional<UserEntity> findFirstByEmailAndStatusOrderByIdDesc(String email, UserStatus status);
+
+    // 가입 중복 확인 : select id from user where email = ? limit 1 (unique 인덱스)
+    @Transactional(readOnly = true)
+    boolean existsByEmail(String email);
+
+    // keyset pagination (OFFSET 없음) : select * from user where id < ? order by id desc limit ?
+    @Transactional(readOnly = true)
+    List<UserEntity> findAllByIdLessThanOrderByIdDesc(Long lastId, Pageable pageable);
+
+    // 조회 전용 projection : select new UserProfile(id, name, email, ...) from UserEntity where id = ? and status = ?
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Optional<UserProfile> findProfileByIdAndStatus(Long userId, UserStatus status);
+
+    // 조회 전용 projection keyset pagination
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    List<UserProfile> findProfilesByIdLessThanOrderByIdDesc(Long lastId, Pageable pageable);
 }
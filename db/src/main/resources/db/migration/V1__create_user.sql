@@ -0,0 +1,17 @@
+-- user 테이블 (UserEntity)
+-- 이 스크립트 이전부터 운영 중인 DB 는 baseline-on-migrate 로 V1 을 기준으로 잡고 V2 부터 적용된다.
+create table if not exists user
+(
+    id              bigint       not null comment 'Snowflake id (애플리케이션에서 생성)',
+    name            varchar(50)  not null,
+    email           varchar(100) not null,
+    password        varchar(100) not null comment 'bcrypt hash',
+    status          varchar(50)  not null comment 'REGISTERED, UNREGISTERED',
+    address         varchar(150) not null,
+    registered_at   datetime(6)  not null,
+    unregistered_at datetime(6),
+    last_login_at   datetime(6),
+    primary key (id),
+    constraint uk_user_email unique (email)
+) engine = InnoDB
+  default charset = utf8mb4;
@@ -0,0 +1,10 @@
+-- UserRepository 조회용 인덱스
+--
+-- findFirstByEmailAndStatusOrderByIdDesc (로그인) : where email = ? and status = ? order by id desc limit 1
+--   -> (email, status, id) 로 조건 + 정렬을 인덱스에서 끝낸다. (filesort 없음)
+-- findProfileByIdAndStatus (id 조회), findById : primary key
+-- existsByEmail (가입 중복 확인) : uk_user_email
+-- findProfilesByIdLessThanOrderByIdDesc (목록 keyset pagination) : primary key range
+-- 상태별 목록 (where status = ? order by id desc) : (status, id)
+create index idx_user_email_status_id on user (email, status, id);
+create index idx_user_status_id on user (status, id);
@@ -0,0 +1,18 @@
+-- outbox_event 테이블 (OutboxEventEntity)
+-- 사용자 가입 / 해지와 같은 트랜잭션에서 INSERT 하고, relay 가 id 순서로 가져가 발행한 뒤 삭제한다.
+--
+-- relay 조회 : select ... from outbox_event order by id limit ? for update skip locked -> primary key
+-- 같은 aggregate 의 앞선 이벤트 확인 : where aggregate_type = ? and aggregate_id = ? -> (aggregate_type, aggregate_id, id)
+create table if not exists outbox_event
+(
+    id             bigint      not null comment 'Snowflake id (발행 순서)',
+    aggregate_type varchar(50) not null comment 'USER',
+    aggregate_id   bigint      not null comment '순서를 보장할 단위 (user id)',
+    event_type     varchar(50) not null comment 'REGISTERED, UNREGISTERED',
+    payload        text        not null comment 'json',
+    created_at     datetime(6) not null,
+    primary key (id)
+) engine = InnoDB
+  default charset = utf8mb4;
+
+create index idx_outbox_event_aggregate on outbox_event (aggregate_type, aggregate_id, id);
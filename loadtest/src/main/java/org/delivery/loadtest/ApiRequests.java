@@ -0,0 +1,130 @@
+package org.delivery.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 시나리오별 HTTP 요청 생성 + login / me 에 사용할 사용자 준비
+ *
+ * 요청 / 응답 json 은 api 모듈과 같은 snake_case, Api 형식({"result": ..., "body": ...}) 이다.
+ */
+public class ApiRequests {
+
+    private static final String PASSWORD = "loadtest1234!";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    // 실행마다 다른 email 을 쓰도록 (같은 DB 를 재사용하는 경우)
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong registerSequence = new AtomicLong();
+
+    private final List<String> emails = new ArrayList<>();
+    private final List<String> accessTokens = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    public ApiRequests(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 사용자 count 명을 가입시키고 로그인해서 access token 을 받아 둔다. (측정 전, 순차 실행)
+     */
+    public void prepareUsers(int count) throws IOException, InterruptedException {
+        for (int i = 0; i < count; i++) {
+            var email = "seed-" + runId + "-" + i + "@loadtest.org";
+            var registered = send(register(email));
+            userIds.add(objectMapper.readTree(registered.body()).path("body").path("id").asLong());
+
+            var response = send(login(email));
+            var accessToken = objectMapper.readTree(response.body()).path("body").path("access_token").asText(null);
+            if (accessToken == null) {
+                throw new IllegalStateException("access token 없음 : " + response.body());
+            }
+            emails.add(email);
+            accessTokens.add(accessToken);
+        }
+    }
+
+    /**
+     * 준비한 사용자 id (list 시나리오에서 관리자로 등록)
+     */
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public Supplier<HttpRequest> factory(Scenario scenario) {
+        return switch (scenario) {
+            case REGISTER -> () -> register("load-" + runId + "-" + registerSequence.incrementAndGet() + "@loadtest.org");
+            case LOGIN -> () -> login(emails.get(randomIndex(emails.size())));
+            case ME -> () -> authorized(baseUrl + "/api/user/me");
+            case LIST -> () -> authorized(baseUrl + "/api/user/list?size=20");
+        };
+    }
+
+    private HttpRequest register(String email) {
+        var body = objectMapper.createObjectNode();
+        body.put("name", "부하테스트");
+        body.put("email", email);
+        body.put("address", "서울시 강남구 테헤란로 1");
+        body.put("password", PASSWORD);
+        return post(baseUrl + "/open-api/user/register", body);
+    }
+
+    private HttpRequest login(String email) {
+        var body = objectMapper.createObjectNode();
+        body.put("email", email);
+        body.put("password", PASSWORD);
+        return post(baseUrl + "/open-api/user/login", body);
+    }
+
+    private HttpRequest post(String url, ObjectNode body) {
+        var api = objectMapper.createObjectNode();
+        api.set("body", body);
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(api.toString()))
+                .build();
+    }
+
+    private HttpRequest authorized(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("authorization-token", accessTokens.get(randomIndex(accessTokens.size())))
+                .GET()
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode() + " : " + request.uri() + " " + response.body());
+        }
+        return response;
+    }
+
+    private static int randomIndex(int size) {
+        if (size == 0) {
+            throw new IllegalStateException("준비된 사용자 없음 (--users 확인)");
+        }
+        return ThreadLocalRandom.current().nextInt(size);
+    }
+}
@@ -0,0 +1,135 @@
+package org.delivery.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.delivery.api.ApiApplication;
+import org.delivery.api.interceptor.AdminProperties;
+import org.delivery.reactive.ReactiveApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.http.HttpClient;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프라인 부하 테스트
+ *
+ * 1. 같은 JVM 에서 대상 애플리케이션 (--target=servlet 이면 ApiApplication, reactive 이면 ReactiveApiApplication) 을
+ *    embedded(H2) 프로파일, 임의 포트로 시작
+ * 2. login / me / list 에 사용할 사용자를 가입 + 로그인
+ * 3. 시나리오마다 지정한 도착률로 warmup + duration 동안 요청 (warmup 결과는 버림)
+ * 4. 처리량과 지연 percentile 을 json 보고서로 저장
+ *
+ * 같은 장비에서 빌드별 / 대상별로 실행한 보고서를 비교한다. (클라이언트와 서버가 CPU 를 나누어 쓰므로 절대값보다 비교용)
+ */
+public class LoadTestMain {
+
+    private static final String R2DBC_AUTO_CONFIGURATION = "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration";
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.parse(args);
+
+        var properties = new HashMap<String, Object>(options.getAppProperties());
+        var context = application(options.getTarget())
+                .profiles(options.getProfile())
+                .properties(properties)
+                .run();
+
+        var httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+            var thread = new Thread(runnable, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            var objectMapper = context.getBean(ObjectMapper.class);
+            var port = context.getEnvironment().getProperty("local.server.port");
+            var httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(httpExecutor)
+                    .build();
+
+            var apiRequests = new ApiRequests(httpClient, objectMapper, "http://localhost:" + port, options.getRequestTimeout());
+            System.out.println("preparing " + options.getUsers() + " users ...");
+            apiRequests.prepareUsers(options.getUsers());
+            if (options.getTarget() == LoadTestOptions.Target.SERVLET) {
+                // list 는 관리자 api 이므로 준비한 사용자를 관리자로 등록 (측정 시작 전)
+                context.getBean(AdminProperties.class).getUserIds().addAll(apiRequests.getUserIds());
+            }
+
+            var report = run(options, httpClient, apiRequests);
+            report.write(objectMapper);
+            report.print(System.out);
+        } finally {
+            httpExecutor.shutdownNow();
+            context.close();
+        }
+    }
+
+    // 두 애플리케이션이 같은 classpath 에 있으므로 servlet 쪽에서는 R2DBC 자동 설정을 끈다. (reactive 쪽은 reactive-api.yaml 에서 JDBC 를 끔)
+    private static SpringApplicationBuilder application(LoadTestOptions.Target target) {
+        return switch (target) {
+            case SERVLET -> new SpringApplicationBuilder(ApiApplication.class)
+                    .properties("spring.autoconfigure.exclude=" + R2DBC_AUTO_CONFIGURATION);
+            case REACTIVE -> ReactiveApiApplication.application();
+        };
+    }
+
+    private static LoadTestReport run(LoadTestOptions options, HttpClient httpClient, ApiRequests apiRequests) throws InterruptedException {
+        var startedAt = OffsetDateTime.now();
+        var warmupNanos = options.getWarmup().toNanos();
+        var stopAtNanos = System.nanoTime() + warmupNanos + options.getDuration().toNanos();
+
+        var stats = new EnumMap<Scenario, ScenarioStats>(Scenario.class);
+        var drivers = new ArrayList<OpenModelDriver>();
+        var threads = new ArrayList<Thread>();
+        for (Map.Entry<Scenario, Double> entry : options.getRates().entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            var scenario = entry.getKey();
+            if (!options.getTarget().supports(scenario)) {
+                System.out.println("skip " + scenario.getKey() + " : not served by " + options.getTarget().name().toLowerCase());
+                continue;
+            }
+            var scenarioStats = new ScenarioStats();
+            var driver = new OpenModelDriver(
+                    scenario,
+                    entry.getValue(),
+                    options.getArrival(),
+                    options.getMaxInFlight(),
+                    httpClient,
+                    apiRequests.factory(scenario),
+                    scenarioStats,
+                    stopAtNanos
+            );
+            stats.put(scenario, scenarioStats);
+            drivers.add(driver);
+
+            var thread = new Thread(driver, "loadtest-" + scenario.getKey());
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+
+        System.out.println("warmup " + options.getWarmup() + " , measure " + options.getDuration() + " , scenarios " + stats.keySet());
+        threads.forEach(Thread::start);
+
+        // warmup 동안의 결과는 버리고 같은 부하를 이어서 측정
+        TimeUnit.NANOSECONDS.sleep(warmupNanos);
+        stats.values().forEach(ScenarioStats::reset);
+
+        for (var thread : threads) {
+            thread.join();
+        }
+        for (var driver : drivers) {
+            driver.stopAndDrain(options.getRequestTimeout().toNanos());
+        }
+
+        var report = new LoadTestReport(options, startedAt);
+        stats.forEach((scenario, scenarioStats) -> report.add(scenario, scenarioStats.reset()));
+        return report;
+    }
+}
@@ -0,0 +1,128 @@
+package org.delivery.loadtest;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 실행 옵션 (--name=value 형식의 인자)
+ *
+ * --rate.<scenario>=초당 요청 수 : 시나리오별 도착률 (open model, 0 이면 실행하지 않음)
+ * --app.<property>=value : 대상 애플리케이션에 그대로 전달할 설정 (예: --app.user.password.bcrypt-strength=4)
+ */
+@Data
+public class LoadTestOptions {
+
+    /**
+     * 시나리오별 초당 도착 요청 수, 응답 시간과 관계없이 이 간격으로 요청을 보낸다.
+     */
+    private final Map<Scenario, Double> rates = new EnumMap<>(Map.of(
+            Scenario.REGISTER, 20.0,
+            Scenario.LOGIN, 20.0,
+            Scenario.ME, 500.0,
+            Scenario.LIST, 100.0
+    ));
+
+    /**
+     * servlet : ApiApplication (Tomcat + JPA), reactive : ReactiveApiApplication (Netty + R2DBC)
+     */
+    private Target target = Target.SERVLET;
+
+    /**
+     * uniform : 일정 간격, poisson : 지수 분포 간격 (평균은 같음)
+     */
+    private Arrival arrival = Arrival.POISSON;
+
+    /**
+     * 측정 시간, 측정 전에 같은 부하로 warmup 만큼 먼저 실행하고 그 결과는 버린다.
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    private Duration warmup = Duration.ofSeconds(15);
+
+    /**
+     * login / me 시나리오에서 사용할 미리 가입시킨 사용자 수
+     */
+    private int users = 200;
+
+    /**
+     * 시나리오별 동시에 응답을 기다리는 최대 요청 수, 넘으면 보내지 않고 dropped 로 센다. (클라이언트 메모리 보호)
+     */
+    private int maxInFlight = 2_000;
+
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    private String profile = "embedded";
+
+    private Path out = Path.of("build", "loadtest", "report.json");
+
+    /**
+     * 대상 애플리케이션 설정 (부하 테스트 기본값 + --app.* 인자)
+     */
+    private final Map<String, String> appProperties = new LinkedHashMap<>(Map.of(
+            "server.port", "0",
+            "logger-filter.sample-rate", "0",
+            // 같은 ip / 소수의 email 로 반복 로그인하므로 제한을 끈다.
+            "user.login-throttle.enabled", "false"
+    ));
+
+    public enum Target {
+        SERVLET(EnumSet.allOf(Scenario.class)),
+        // open-api 가입 / 로그인만 제공
+        REACTIVE(EnumSet.of(Scenario.REGISTER, Scenario.LOGIN)),
+        ;
+
+        private final Set<Scenario> scenarios;
+
+        Target(Set<Scenario> scenarios) {
+            this.scenarios = scenarios;
+        }
+
+        public boolean supports(Scenario scenario) {
+            return scenarios.contains(scenario);
+        }
+    }
+
+    public enum Arrival {
+        UNIFORM,
+        POISSON,
+        ;
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        var options = new LoadTestOptions();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--name=value 형식이 아닌 인자 : " + arg);
+            }
+            var name = arg.substring(2, arg.indexOf('='));
+            var value = arg.substring(arg.indexOf('=') + 1);
+
+            if (name.startsWith("rate.")) {
+                options.rates.put(Scenario.from(name.substring("rate.".length())), Double.parseDouble(value));
+            } else if (name.startsWith("app.")) {
+                options.appProperties.put(name.substring("app.".length()), value);
+            } else {
+                switch (name) {
+                    case "target" -> options.target = Target.valueOf(value.toUpperCase());
+                    case "arrival" -> options.arrival = Arrival.valueOf(value.toUpperCase());
+                    case "duration" -> options.duration = Duration.parse(value);
+                    case "warmup" -> options.warmup = Duration.parse(value);
+                    case "users" -> options.users = Integer.parseInt(value);
+                    case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                    case "request-timeout" -> options.requestTimeout = Duration.parse(value);
+                    case "profile" -> options.profile = value;
+                    case "out" -> options.out = Path.of(value);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션 : " + name);
+                }
+            }
+        }
+        return options;
+    }
+}
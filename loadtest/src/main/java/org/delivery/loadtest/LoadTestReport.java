@@ -0,0 +1,128 @@
+package org.delivery.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (json 보고서 + 시나리오별 HdrHistogram 분포 파일)
+ *
+ * 보고서 : 처리량과 p50 ~ p99.99 / max 지연 (ms), 빌드 간 비교용
+ * <out 이름>-<scenario>.hgrm : 전체 percentile 분포 (HdrHistogram plotter 로 그래프 비교)
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+    private final LoadTestOptions options;
+    private final OffsetDateTime startedAt;
+    private final Map<Scenario, ScenarioStats.Snapshot> results = new LinkedHashMap<>();
+
+    public LoadTestReport(LoadTestOptions options, OffsetDateTime startedAt) {
+        this.options = options;
+        this.startedAt = startedAt;
+    }
+
+    public void add(Scenario scenario, ScenarioStats.Snapshot snapshot) {
+        results.put(scenario, snapshot);
+    }
+
+    public void write(ObjectMapper objectMapper) throws IOException {
+        var out = options.getOut();
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(out.toFile(), toJson(objectMapper));
+
+        var baseName = out.getFileName().toString().replaceFirst("\\.json$", "");
+        for (var entry : results.entrySet()) {
+            var hgrm = out.resolveSibling(baseName + "-" + entry.getKey().getKey() + ".hgrm");
+            try (var printStream = new PrintStream(Files.newOutputStream(hgrm))) {
+                // 값은 us 단위로 기록했으므로 1000 으로 나누어 ms 로 출력
+                entry.getValue().latencyMicros().outputPercentileDistribution(printStream, 1000.0);
+            }
+        }
+    }
+
+    private ObjectNode toJson(ObjectMapper objectMapper) {
+        var root = objectMapper.createObjectNode();
+        root.put("started_at", startedAt.toString());
+
+        var environment = root.putObject("environment");
+        environment.put("java_version", System.getProperty("java.version"));
+        environment.put("java_vm", System.getProperty("java.vm.name"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        environment.put("available_processors", Runtime.getRuntime().availableProcessors());
+        environment.put("max_heap_bytes", Runtime.getRuntime().maxMemory());
+
+        var config = root.putObject("config");
+        config.put("target", options.getTarget().name().toLowerCase());
+        config.put("profile", options.getProfile());
+        config.put("arrival", options.getArrival().name().toLowerCase());
+        config.put("duration_seconds", options.getDuration().toSeconds());
+        config.put("warmup_seconds", options.getWarmup().toSeconds());
+        config.put("users", options.getUsers());
+        config.put("max_in_flight", options.getMaxInFlight());
+        config.put("request_timeout_ms", options.getRequestTimeout().toMillis());
+        var appProperties = config.putObject("app_properties");
+        options.getAppProperties().forEach(appProperties::put);
+
+        var scenarios = root.putObject("scenarios");
+        var seconds = options.getDuration().toNanos() / 1e9;
+        results.forEach((scenario, snapshot) -> {
+            var node = scenarios.putObject(scenario.getKey());
+            node.put("request", scenario.getDescription());
+            node.put("target_rate", options.getRates().get(scenario));
+            node.put("throughput", snapshot.completed() / seconds);
+            node.put("succeeded", snapshot.succeeded());
+            node.put("failed", snapshot.failed());
+            node.put("timed_out", snapshot.timedOut());
+            node.put("dropped", snapshot.dropped());
+
+            var histogram = snapshot.latencyMicros();
+            var latency = node.putObject("latency_ms");
+            latency.put("mean", histogram.getMean() / 1000.0);
+            for (var percentile : PERCENTILES) {
+                latency.put(percentileName(percentile), histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latency.put("max", histogram.getMaxValue() / 1000.0);
+        });
+        return root;
+    }
+
+    public void print(PrintStream printStream) {
+        var seconds = options.getDuration().toNanos() / 1e9;
+        printStream.printf("%-10s %10s %10s %8s %8s %10s %10s %10s %10s%n",
+                "scenario", "target/s", "actual/s", "failed", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((scenario, snapshot) -> {
+            Histogram histogram = snapshot.latencyMicros();
+            printStream.printf("%-10s %10.1f %10.1f %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                    scenario.getKey(),
+                    options.getRates().get(scenario),
+                    snapshot.completed() / seconds,
+                    snapshot.failed() + snapshot.timedOut(),
+                    snapshot.dropped(),
+                    histogram.getValueAtPercentile(50.0) / 1000.0,
+                    histogram.getValueAtPercentile(99.0) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        });
+        printStream.println("report : " + options.getOut().toAbsolutePath());
+    }
+
+    // 50.0 -> p50, 99.9 -> p999, 99.99 -> p9999
+    private static String percentileName(double percentile) {
+        var text = Double.toString(percentile).replace(".", "");
+        return "p" + (text.endsWith("0") ? text.substring(0, text.length() - 1) : text);
+    }
+}
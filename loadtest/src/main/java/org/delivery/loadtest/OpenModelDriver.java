@@ -0,0 +1,132 @@
+package org.delivery.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 한 시나리오에 정해진 도착률로 요청을 보내는 open model 부하 발생기
+ *
+ * 응답을 기다리지 않고 (비동기 전송) 도착 시각이 되면 다음 요청을 보낸다.
+ * 서버가 느려져도 요청 간격이 늘어나지 않으므로 closed model(스레드 N 개가 응답 후 다음 요청) 처럼 부하가 저절로 줄지 않는다.
+ */
+public class OpenModelDriver implements Runnable {
+
+    private final Scenario scenario;
+    private final double ratePerSecond;
+    private final LoadTestOptions.Arrival arrival;
+    private final int maxInFlight;
+    private final HttpClient httpClient;
+    private final Supplier<HttpRequest> requestFactory;
+    private final ScenarioStats stats;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long stopAtNanos;
+
+    public OpenModelDriver(
+            Scenario scenario,
+            double ratePerSecond,
+            LoadTestOptions.Arrival arrival,
+            int maxInFlight,
+            HttpClient httpClient,
+            Supplier<HttpRequest> requestFactory,
+            ScenarioStats stats,
+            long stopAtNanos
+    ) {
+        this.scenario = scenario;
+        this.ratePerSecond = ratePerSecond;
+        this.arrival = arrival;
+        this.maxInFlight = maxInFlight;
+        this.httpClient = httpClient;
+        this.requestFactory = requestFactory;
+        this.stats = stats;
+        this.stopAtNanos = stopAtNanos;
+    }
+
+    @Override
+    public void run() {
+        var meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        var intendedStartNanos = System.nanoTime();
+
+        while (intendedStartNanos < stopAtNanos) {
+            parkUntil(intendedStartNanos);
+            send(intendedStartNanos);
+            intendedStartNanos += nextIntervalNanos(meanIntervalNanos);
+        }
+    }
+
+    private void send(long intendedStartNanos) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            stats.recordDropped();
+            return;
+        }
+
+        HttpRequest request;
+        try {
+            request = requestFactory.get();
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            stats.recordError(intendedStartNanos);
+            return;
+        }
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    if (throwable == null) {
+                        stats.recordResponse(intendedStartNanos, response.statusCode());
+                    } else if (unwrap(throwable) instanceof HttpTimeoutException) {
+                        stats.recordTimeout(intendedStartNanos);
+                    } else {
+                        stats.recordError(intendedStartNanos);
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private long nextIntervalNanos(double meanIntervalNanos) {
+        if (arrival == LoadTestOptions.Arrival.UNIFORM) {
+            return Math.max(1L, Math.round(meanIntervalNanos));
+        }
+        // 지수 분포 간격 = poisson 도착
+        var uniform = ThreadLocalRandom.current().nextDouble();
+        return Math.max(1L, Math.round(-Math.log(1.0 - uniform) * meanIntervalNanos));
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * 도착을 멈추고, 이미 보낸 요청의 응답을 최대 waitNanos 동안 기다린다.
+     */
+    public void stopAndDrain(long waitNanos) {
+        stopAtNanos = System.nanoTime();
+        var deadline = System.nanoTime() + waitNanos;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+}
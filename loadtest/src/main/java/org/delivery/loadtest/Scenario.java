@@ -0,0 +1,37 @@
+package org.delivery.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하를 거는 요청 종류
+ */
+public enum Scenario {
+    REGISTER("register", "POST /open-api/user/register"),
+    LOGIN("login", "POST /open-api/user/login"),
+    ME("me", "GET /api/user/me"),
+    LIST("list", "GET /api/user/list?size=20"),
+    ;
+
+    private final String key;
+    private final String description;
+
+    Scenario(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static Scenario from(String key) {
+        return Arrays.stream(values())
+                .filter(it -> it.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오 : " + key));
+    }
+}
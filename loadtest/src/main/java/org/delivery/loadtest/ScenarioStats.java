@@ -0,0 +1,77 @@
+package org.delivery.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 결과 집계
+ *
+ * 지연 시간은 요청을 실제로 보낸 시각이 아니라 보냈어야 할 시각(도착 시각)부터 잰다.
+ * 서버가 밀려 요청이 늦게 나가도 그 대기 시간이 지연에 포함된다. (coordinated omission 보정)
+ */
+public class ScenarioStats {
+
+    // 1us ~ 1h, 유효 숫자 3자리
+    private final Recorder latency = new Recorder(TimeUnit.HOURS.toMicros(1), 3);
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public void recordResponse(long intendedStartNanos, int statusCode) {
+        recordLatency(intendedStartNanos);
+        if (statusCode >= 200 && statusCode < 300) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    public void recordTimeout(long intendedStartNanos) {
+        recordLatency(intendedStartNanos);
+        timedOut.increment();
+    }
+
+    public void recordError(long intendedStartNanos) {
+        recordLatency(intendedStartNanos);
+        failed.increment();
+    }
+
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    private void recordLatency(long intendedStartNanos) {
+        var micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latency.recordValue(Math.max(1, Math.min(micros, TimeUnit.HOURS.toMicros(1))));
+    }
+
+    /**
+     * 지금까지의 결과를 꺼내고 초기화 (warmup 결과 버리기 / 측정 구간 결과 가져오기)
+     */
+    public Snapshot reset() {
+        return new Snapshot(
+                latency.getIntervalHistogram(),
+                succeeded.sumThenReset(),
+                failed.sumThenReset(),
+                timedOut.sumThenReset(),
+                dropped.sumThenReset()
+        );
+    }
+
+    public record Snapshot(
+            Histogram latencyMicros,
+            long succeeded,
+            long failed,
+            long timedOut,
+            long dropped
+    ) {
+        public long completed() {
+            return succeeded + failed + timedOut;
+        }
+    }
+}
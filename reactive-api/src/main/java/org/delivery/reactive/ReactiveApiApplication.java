@@ -0,0 +1,30 @@
+package org.delivery.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * open-api 사용자 가입 / 로그인의 non-blocking 버전 (WebFlux + R2DBC)
+ *
+ * api 모듈과 같은 Api<T> 형식, 요청/응답 모델, 에러 코드를 사용한다.
+ * 설정 파일은 api 모듈의 application.yaml 과 섞이지 않도록 reactive-api.yaml (reactive-api-<profile>.yaml) 을 사용한다.
+ */
+@SpringBootApplication
+public class ReactiveApiApplication {
+
+    public static final String CONFIG_NAME = "reactive-api";
+
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    /**
+     * servlet 의존성이 함께 있는 classpath (loadtest 모듈) 에서도 Netty 로 시작하도록 웹 타입을 고정한다.
+     */
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ReactiveApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("spring.config.name=" + CONFIG_NAME);
+    }
+}
@@ -0,0 +1,45 @@
+package org.delivery.reactive.config;
+
+import org.delivery.api.config.objectMapper.ObjectMapperConfig;
+import org.delivery.api.domain.token.converter.TokenConverter;
+import org.delivery.api.domain.token.helper.JwtTokenHelper;
+import org.delivery.api.domain.user.password.PasswordHashProperties;
+import org.delivery.api.domain.user.throttle.LoginThrottle;
+import org.delivery.api.domain.user.throttle.LoginThrottleProperties;
+import org.delivery.api.exceptionHandler.ErrorLogAggregator;
+import org.delivery.db.id.IdGenerator;
+import org.delivery.db.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * api 모듈에서 재사용하는 빈 (component scan 대상이 아니므로 직접 등록)
+ *
+ * ObjectMapper : snake_case 등 api 와 같은 json 형식 (WebFlux codec 도 이 빈을 사용)
+ * JwtTokenHelper, TokenConverter : 같은 token.* 설정으로 같은 형식의 토큰 발급
+ * ErrorLogAggregator : 예상된 에러를 코드별로 모아서 기록 (api.exception 메트릭)
+ * LoginThrottle : api 와 같은 user.login-throttle.* 설정으로 로그인 시도 제한 (servlet 의존성 없음)
+ */
+@Configuration
+@Import({
+        ObjectMapperConfig.class,
+        JwtTokenHelper.class,
+        TokenConverter.class,
+        ErrorLogAggregator.class,
+        LoginThrottle.class
+})
+@EnableConfigurationProperties({
+        PasswordHashProperties.class,
+        LoginThrottleProperties.class
+})
+public class ReactiveApiConfig {
+
+    // JPA 의 SnowflakeIdentifierGenerator 대신 INSERT 전에 직접 id 를 채운다. (인스턴스마다 node id 가 달라야 함)
+    @Bean
+    public IdGenerator idGenerator(@Value("${delivery.id.node-id:0}") long nodeId) {
+        return new SnowflakeIdGenerator(nodeId);
+    }
+}
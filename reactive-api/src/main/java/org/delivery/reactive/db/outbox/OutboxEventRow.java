@@ -0,0 +1,36 @@
+package org.delivery.reactive.db.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox_event 테이블 (R2DBC 매핑, 컬럼은 OutboxEventEntity 와 같음)
+ *
+ * 발행은 api 모듈의 OutboxRelay 가 같은 테이블을 읽어서 처리한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table("outbox_event")
+public class OutboxEventRow {
+
+    @Id
+    private Long id;
+
+    private String aggregateType;
+
+    private Long aggregateId;
+
+    private String eventType;
+
+    private String payload;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package org.delivery.reactive.db.user;
+
+import org.delivery.db.user.enums.UserStatus;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserRepository 의 가입 / 로그인 조회를 non-blocking 으로 (같은 인덱스 사용, V2 마이그레이션 참고)
+ */
+public interface UserR2dbcRepository extends ReactiveCrudRepository<UserRow, Long> {
+
+    // select * from user where email = ? and status = ? order by id desc limit 1
+    Mono<UserRow> findFirstByEmailAndStatusOrderByIdDesc(String email, UserStatus status);
+
+    Mono<Boolean> existsByEmail(String email);
+}
@@ -0,0 +1,44 @@
+package org.delivery.reactive.db.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.delivery.db.user.enums.UserStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * user 테이블 (R2DBC 매핑, 컬럼은 UserEntity 와 같음)
+ *
+ * id 는 INSERT 전에 IdGenerator 로 채우고 R2dbcEntityTemplate.insert 로 저장한다.
+ * (id 가 있으면 repository.save 는 UPDATE 로 처리하므로)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table("user")
+public class UserRow {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private String password;
+
+    private UserStatus status;
+
+    private String address;
+
+    private LocalDateTime registeredAt;
+
+    private LocalDateTime unregisteredAt;
+
+    private LocalDateTime lastLoginAt;
+}
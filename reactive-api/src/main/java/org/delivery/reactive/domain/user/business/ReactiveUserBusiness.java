@@ -0,0 +1,66 @@
+package org.delivery.reactive.domain.user.business;
+
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.annotation.Business;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.token.controller.model.TokenResponse;
+import org.delivery.api.domain.token.converter.TokenConverter;
+import org.delivery.api.domain.token.ifs.TokenHelperIfs;
+import org.delivery.api.domain.user.controller.model.UserLoginRequest;
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.api.domain.user.throttle.LoginThrottle;
+import org.delivery.reactive.db.user.UserRow;
+import org.delivery.reactive.domain.user.converter.UserRowConverter;
+import org.delivery.reactive.domain.user.service.ReactiveUserService;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Business
+public class ReactiveUserBusiness {
+    // TokenService 와 같은 claim 이름 (api 모듈에서 검증 가능한 토큰)
+    private static final String USER_ID_KEY = "userId";
+
+    private final ReactiveUserService userService;
+    private final UserRowConverter userRowConverter;
+    private final TokenHelperIfs tokenHelperIfs;
+    private final TokenConverter tokenConverter;
+    private final LoginThrottle loginThrottle;
+
+    /**
+     * 1. request -> row (비밀번호 해시)
+     * 2. row -> save (+ outbox)
+     * 3. save row -> response
+     */
+    public Mono<UserResponse> register(UserRegisterRequest request) {
+        return userRowConverter.toRow(request)
+                .flatMap(userService::register)
+                .map(userRowConverter::toResponse);
+    }
+
+    /**
+     * 1. 로그인 시도 제한 (DB 조회 / bcrypt 전에 거절, lock-free 라 event loop 에서 처리)
+     * 2. email, password 로 사용자 확인
+     * 3. token 생성 (HMAC 서명은 짧으므로 event loop 에서 처리)
+     */
+    public Mono<TokenResponse> login(UserLoginRequest request, String clientIp) {
+        if (request == null) {
+            return Mono.error(new ApiException(ErrorCode.NULL_POINT, "UserLoginRequest Null"));
+        }
+        return Mono.defer(() -> {
+                    loginThrottle.acquire(request.getEmail(), clientIp);
+                    return userService.login(request.getEmail(), request.getPassword());
+                })
+                .map(this::issueToken);
+    }
+
+    private TokenResponse issueToken(UserRow userRow) {
+        var data = Map.<String, Object>of(USER_ID_KEY, userRow.getId());
+        var accessToken = tokenHelperIfs.issueAccessToken(data);
+        var refreshToken = tokenHelperIfs.issueRefreshToken(data);
+        return tokenConverter.toResponse(accessToken, refreshToken);
+    }
+}
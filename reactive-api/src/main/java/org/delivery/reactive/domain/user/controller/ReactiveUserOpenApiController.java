@@ -0,0 +1,61 @@
+package org.delivery.reactive.domain.user.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.api.Api;
+import org.delivery.api.domain.token.controller.model.TokenResponse;
+import org.delivery.api.domain.user.controller.model.UserLoginRequest;
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.reactive.domain.user.business.ReactiveUserBusiness;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.net.InetSocketAddress;
+
+/**
+ * UserOpenApiController 와 같은 경로 / 요청 / 응답 (Api<T>)
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/open-api/user")
+public class ReactiveUserOpenApiController {
+    private final ReactiveUserBusiness userBusiness;
+
+    // 사용자 가입 요청
+    @PostMapping("/register")
+    public Mono<Api<UserResponse>> register(
+            @Valid
+            @RequestBody Api<UserRegisterRequest> request
+    ){
+        return userBusiness.register(request.getBody())
+                .map(Api::OK);
+    }
+
+    // 로그인
+    @PostMapping("/login")
+    public Mono<Api<TokenResponse>> login(
+            @Valid
+            @RequestBody
+            Api<UserLoginRequest> request,
+            ServerHttpRequest serverHttpRequest
+    ){
+        return userBusiness.login(request.getBody(), clientIp(serverHttpRequest))
+                .map(Api::OK);
+    }
+
+    // HttpServletRequest.getRemoteAddr() 와 같은 값 (ip 문자열)
+    private static String clientIp(ServerHttpRequest serverHttpRequest){
+        InetSocketAddress remoteAddress = serverHttpRequest.getRemoteAddress();
+        if (remoteAddress == null) {
+            return null;
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+}
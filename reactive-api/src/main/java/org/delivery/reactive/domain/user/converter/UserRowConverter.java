@@ -0,0 +1,51 @@
+package org.delivery.reactive.domain.user.converter;
+
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.annotation.Converter;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.delivery.api.domain.user.controller.model.UserResponse;
+import org.delivery.reactive.db.user.UserRow;
+import org.delivery.reactive.domain.user.password.ReactivePasswordHasher;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Converter
+public class UserRowConverter {
+    private final ReactivePasswordHasher passwordHasher;
+
+    // 비밀번호는 bcrypt 해시로 변환해서 저장 (해시 전용 scheduler 에서 계산)
+    public Mono<UserRow> toRow(UserRegisterRequest request) {
+        return Mono.justOrEmpty(request)
+                .switchIfEmpty(Mono.error(() -> new ApiException(ErrorCode.NULL_POINT, "UserRegisterRequest Null")))
+                .flatMap(it -> passwordHasher.hash(it.getPassword()))
+                .map(hashedPassword -> UserRow.builder()
+                        .name(request.getName())
+                        .email(request.getEmail())
+                        .password(hashedPassword)
+                        .address(request.getAddress())
+                        .build()
+                );
+    }
+
+    public UserResponse toResponse(UserRow userRow) {
+        return Optional.ofNullable(userRow)
+                .map(it -> {
+                    return UserResponse.builder()
+                            .id(userRow.getId())
+                            .name(userRow.getName())
+                            .status(userRow.getStatus())
+                            .email(userRow.getEmail())
+                            .address(userRow.getAddress())
+                            .registeredAt(userRow.getRegisteredAt())
+                            .unregisteredAt(userRow.getUnregisteredAt())
+                            .lastLoginAt(userRow.getLastLoginAt())
+                            .build()
+                            ;
+                })
+                .orElseThrow(() -> new ApiException(ErrorCode.NULL_POINT, "UserRow Null"));
+    }
+}
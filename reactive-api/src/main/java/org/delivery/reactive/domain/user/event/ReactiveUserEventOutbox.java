@@ -0,0 +1,63 @@
+package org.delivery.reactive.domain.user.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.user.event.UserEventOutbox;
+import org.delivery.api.domain.user.event.UserEventType;
+import org.delivery.api.domain.user.event.UserLifecycleEvent;
+import org.delivery.db.id.IdGenerator;
+import org.delivery.reactive.db.outbox.OutboxEventRow;
+import org.delivery.reactive.db.user.UserRow;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 이벤트를 outbox_event 에 기록 (api 모듈 UserEventOutbox 와 같은 payload)
+ *
+ * 호출한 쪽의 R2DBC 트랜잭션에 참여하므로 사용자 저장과 함께 커밋 / 롤백된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ReactiveUserEventOutbox {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final IdGenerator idGenerator;
+    private final ObjectMapper objectMapper;
+
+    public Mono<OutboxEventRow> append(UserEventType eventType, UserRow userRow) {
+        return Mono.fromCallable(() -> toOutboxEvent(eventType, userRow, LocalDateTime.now()))
+                .flatMap(r2dbcEntityTemplate::insert);
+    }
+
+    private OutboxEventRow toOutboxEvent(UserEventType eventType, UserRow userRow, LocalDateTime now) {
+        var event = new UserLifecycleEvent(
+                userRow.getId(),
+                userRow.getEmail(),
+                userRow.getStatus(),
+                now
+        );
+
+        return OutboxEventRow.builder()
+                .id(idGenerator.nextId())
+                .aggregateType(UserEventOutbox.AGGREGATE_TYPE)
+                .aggregateId(userRow.getId())
+                .eventType(eventType.name())
+                .payload(toJson(event))
+                .createdAt(now)
+                .build();
+    }
+
+    private String toJson(UserLifecycleEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(ErrorCode.SERVER_ERROR, e);
+        }
+    }
+}
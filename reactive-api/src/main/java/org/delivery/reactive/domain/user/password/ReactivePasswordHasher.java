@@ -0,0 +1,73 @@
+package org.delivery.reactive.domain.user.password;
+
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.user.password.PasswordHashProperties;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * bcrypt 비밀번호 해시 / 검증 (api 모듈 PasswordHasher 와 같은 user.password.* 설정)
+ *
+ * bcrypt 는 CPU 를 오래 쓰므로 event loop 가 아닌 전용 scheduler (pool-size 스레드 + queue-capacity 대기열) 에서 계산한다.
+ * 대기열이 가득 차거나 timeout 을 넘으면 SERVER_BUSY (503) 로 거절한다.
+ */
+@Component
+public class ReactivePasswordHasher {
+
+    // $2a$10$... 형식이 아니면 해시 이전에 저장된 평문 비밀번호
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+    private final Duration timeout;
+
+    public ReactivePasswordHasher(PasswordHashProperties properties) {
+        this.passwordEncoder = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        this.scheduler = Schedulers.newBoundedElastic(properties.getPoolSize(), properties.getQueueCapacity(), "password-hasher", 60, true);
+        this.timeout = properties.getTimeout();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    public Mono<String> hash(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public Mono<Boolean> matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return Mono.just(false);
+        }
+
+        if (!BCRYPT_PATTERN.matcher(storedPassword).matches()) {
+            return Mono.just(MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8)
+            ));
+        }
+        return execute(() -> passwordEncoder.matches(rawPassword, storedPassword));
+    }
+
+    private <T> Mono<T> execute(Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(scheduler)
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class, e -> new ApiException(ErrorCode.SERVER_BUSY, "비밀번호 처리 대기 시간 초과"))
+                .onErrorMap(RejectedExecutionException.class, e -> new ApiException(ErrorCode.SERVER_BUSY, "비밀번호 처리 대기열 초과"));
+    }
+}
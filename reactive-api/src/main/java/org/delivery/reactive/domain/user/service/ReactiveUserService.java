@@ -0,0 +1,71 @@
+package org.delivery.reactive.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.delivery.api.common.error.UserErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.domain.user.event.UserEventType;
+import org.delivery.db.id.IdGenerator;
+import org.delivery.db.user.enums.UserStatus;
+import org.delivery.reactive.db.user.UserR2dbcRepository;
+import org.delivery.reactive.db.user.UserRow;
+import org.delivery.reactive.domain.user.event.ReactiveUserEventOutbox;
+import org.delivery.reactive.domain.user.password.ReactivePasswordHasher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * user 도메인 로직 (UserService 의 register / login 을 non-blocking 으로)
+ *
+ * DB 를 기다리는 동안 스레드를 점유하지 않으므로 적은 수의 event loop 스레드로 많은 동시 요청을 처리한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ReactiveUserService {
+    private final UserR2dbcRepository userR2dbcRepository;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final ReactivePasswordHasher passwordHasher;
+    private final ReactiveUserEventOutbox userEventOutbox;
+    private final IdGenerator idGenerator;
+
+    /**
+     * 사용자 저장과 REGISTERED 이벤트(outbox) 기록을 하나의 트랜잭션으로 처리
+     */
+    @Transactional
+    public Mono<UserRow> register(UserRow userRow) {
+        return userR2dbcRepository.existsByEmail(userRow.getEmail())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.<UserRow>error(new ApiException(UserErrorCode.USER_ALREADY_EXISTS));
+                    }
+                    userRow.setId(idGenerator.nextId());
+                    userRow.setStatus(UserStatus.REGISTERED);
+                    userRow.setRegisteredAt(LocalDateTime.now());
+                    return r2dbcEntityTemplate.insert(userRow);
+                })
+                // 동시에 같은 email 로 가입한 경우 (확인과 저장 사이) unique 제약으로 거절된다.
+                .onErrorMap(DataIntegrityViolationException.class, e -> new ApiException(UserErrorCode.USER_ALREADY_EXISTS, e))
+                .flatMap(newRow -> userEventOutbox.append(UserEventType.REGISTERED, newRow).thenReturn(newRow));
+    }
+
+    /**
+     * email 로만 조회하고 비밀번호는 bcrypt 로 확인
+     */
+    public Mono<UserRow> login(
+            String email,
+            String password
+    ) {
+        return userR2dbcRepository.findFirstByEmailAndStatusOrderByIdDesc(email, UserStatus.REGISTERED)
+                .switchIfEmpty(Mono.error(() -> new ApiException(UserErrorCode.USER_NOT_FOUND)))
+                .flatMap(userRow -> passwordHasher.matches(password, userRow.getPassword())
+                        .flatMap(matched -> matched
+                                ? Mono.just(userRow)
+                                : Mono.<UserRow>error(new ApiException(UserErrorCode.USER_NOT_FOUND))
+                        )
+                );
+    }
+}
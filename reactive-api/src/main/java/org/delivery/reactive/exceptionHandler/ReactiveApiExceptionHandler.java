@@ -0,0 +1,71 @@
+package org.delivery.reactive.exceptionHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.delivery.api.common.api.Api;
+import org.delivery.api.common.error.ErrorCode;
+import org.delivery.api.common.exception.ApiException;
+import org.delivery.api.exceptionHandler.ErrorLogAggregator;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * api 모듈의 ApiExceptionHandler / GlobalExceptionHandler 와 같은 형식으로 에러 응답
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ReactiveApiExceptionHandler {
+
+    private final ErrorLogAggregator errorLogAggregator;
+
+    @ExceptionHandler(value = ApiException.class)
+    public ResponseEntity<Api<Object>> handleApiException(
+            ApiException apiException
+    ) {
+        var errorCode = apiException.getErrorCodeInterface();
+
+        if (errorCode.isExpected()) {
+            errorLogAggregator.record(errorCode, apiException.getErrorDescription());
+        } else {
+            log.error("", apiException);
+            errorLogAggregator.count(errorCode);
+        }
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatusCode())
+                .body(
+                        Api.ERROR(errorCode, apiException.getErrorDescription())
+                );
+    }
+
+    // 잘못된 json, @Valid 검증 실패 (WebExchangeBindException 은 ServerWebInputException 의 하위 타입)
+    @ExceptionHandler(value = ServerWebInputException.class)
+    public ResponseEntity<Api<Object>> handleInputException(
+            ServerWebInputException exception
+    ) {
+        errorLogAggregator.record(ErrorCode.BAD_REQUEST, exception.getReason());
+
+        return ResponseEntity
+                .status(ErrorCode.BAD_REQUEST.getHttpStatusCode())
+                .body(
+                        Api.ERROR(ErrorCode.BAD_REQUEST, exception.getReason())
+                );
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Api<Object>> exception(
+            Exception exception
+    ) {
+        log.error("", exception);
+        errorLogAggregator.count(ErrorCode.SERVER_ERROR);
+
+        return ResponseEntity
+                .status(500)
+                .body(
+                        Api.ERROR(ErrorCode.SERVER_ERROR)
+                );
+    }
+}
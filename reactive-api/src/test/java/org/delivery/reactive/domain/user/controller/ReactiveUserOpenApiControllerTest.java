@@ -0,0 +1,98 @@
+package org.delivery.reactive.domain.user.controller;
+
+import org.delivery.api.common.api.Api;
+import org.delivery.api.common.error.UserErrorCode;
+import org.delivery.api.domain.user.controller.model.UserLoginRequest;
+import org.delivery.api.domain.user.controller.model.UserRegisterRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+/**
+ * reactive-api 의 open-api 가입 / 로그인 (embedded H2)
+ *
+ * 로그인 제한은 email 당 2번으로 줄여서 확인한다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.config.name=reactive-api",
+                "spring.profiles.active=embedded",
+                "user.password.bcrypt-strength=4",
+                "user.login-throttle.email.capacity=2"
+        }
+)
+class ReactiveUserOpenApiControllerTest {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("가입한 사용자는 로그인해서 토큰을 받는다")
+    void registerAndLogin() {
+        var email = newEmail();
+        register(email).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.body.id").isNumber()
+                .jsonPath("$.body.email").isEqualTo(email);
+
+        login(email, PASSWORD).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.body.access_token").isNotEmpty()
+                .jsonPath("$.body.refresh_token").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 가입된 email 은 USER_ALREADY_EXISTS")
+    void duplicateRegisterIsRejected() {
+        var email = newEmail();
+        register(email).expectStatus().isOk();
+
+        register(email).expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.result.result_code").isEqualTo(UserErrorCode.USER_ALREADY_EXISTS.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("email 별 허용 횟수를 넘은 로그인은 비밀번호 확인 전에 429")
+    void loginIsThrottled() {
+        var email = newEmail();
+        register(email).expectStatus().isOk();
+
+        login(email, "wrong-password").expectStatus().isBadRequest();
+        login(email, "wrong-password").expectStatus().isBadRequest();
+
+        login(email, PASSWORD).expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectBody()
+                .jsonPath("$.result.result_code").isEqualTo(UserErrorCode.LOGIN_ATTEMPT_EXCEEDED.getErrorCode());
+    }
+
+    private WebTestClient.ResponseSpec register(String email) {
+        var request = new Api<UserRegisterRequest>();
+        request.setBody(new UserRegisterRequest("reactive-test", email, "seoul", PASSWORD));
+        return webTestClient.post()
+                .uri("/open-api/user/register")
+                .bodyValue(request)
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec login(String email, String password) {
+        var request = new Api<UserLoginRequest>();
+        request.setBody(new UserLoginRequest(email, password));
+        return webTestClient.post()
+                .uri("/open-api/user/login")
+                .bodyValue(request)
+                .exchange();
+    }
+
+    private static String newEmail() {
+        return UUID.randomUUID() + "@reactive.test";
+    }
+}